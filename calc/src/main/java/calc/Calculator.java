@@ -0,0 +1,227 @@
+package calc;
+
+import java.nio.IntBuffer;
+import java.util.BitSet;
+
+public class Calculator {
+
+    private static final boolean VECTOR_API_AVAILABLE = detectVectorApi();
+
+    public int add(int a, int b) {
+        return a + b;
+    }
+
+    public int subtract(int a, int b) {
+        return a - b;
+    }
+
+    public int multiply(int a, int b) {
+        return a * b;
+    }
+
+    public int divide(int a, int b) {
+        if (b == 0) {
+            throw new ArithmeticException("Division by zero not allowed");
+        }
+        return a / b;
+    }
+
+    // Batch variants: element i of the result is the scalar operation on
+    // element i of each operand. add, subtract and multiply wrap exactly like
+    // the scalar versions. They run on the Vector API when the JVM was started
+    // with --add-modules jdk.incubator.vector, with a scalar tail for the last
+    // few elements, and fall back to plain loops otherwise. Divide is always a
+    // scalar loop that never throws.
+
+    /** Whether batch add, subtract and multiply run on the Vector API in this JVM. */
+    public static boolean isVectorized() {
+        return VECTOR_API_AVAILABLE;
+    }
+
+    public void add(int[] a, int[] b, int[] result) {
+        int n = checkLengths(a.length, b.length, result.length);
+        int i = VECTOR_API_AVAILABLE ? IntBatchKernel.add(a, 0, b, 0, result, 0, n) : 0;
+        for (; i < n; i++) {
+            result[i] = a[i] + b[i];
+        }
+    }
+
+    public void subtract(int[] a, int[] b, int[] result) {
+        int n = checkLengths(a.length, b.length, result.length);
+        int i = VECTOR_API_AVAILABLE ? IntBatchKernel.subtract(a, 0, b, 0, result, 0, n) : 0;
+        for (; i < n; i++) {
+            result[i] = a[i] - b[i];
+        }
+    }
+
+    public void multiply(int[] a, int[] b, int[] result) {
+        int n = checkLengths(a.length, b.length, result.length);
+        int i = VECTOR_API_AVAILABLE ? IntBatchKernel.multiply(a, 0, b, 0, result, 0, n) : 0;
+        for (; i < n; i++) {
+            result[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * Divides element-wise without throwing: a zero divisor yields 0 in that
+     * lane. Returns the number of zero divisors.
+     */
+    public int divide(int[] a, int[] b, int[] result) {
+        return divide(a, b, result, null);
+    }
+
+    /**
+     * Like {@link #divide(int[], int[], int[])}, and also sets the index of
+     * every zero-divisor lane in {@code zeroLanes}.
+     */
+    public int divide(int[] a, int[] b, int[] result, BitSet zeroLanes) {
+        int n = checkLengths(a.length, b.length, result.length);
+        return divide(a, 0, b, 0, result, 0, n, zeroLanes);
+    }
+
+    /**
+     * Adds the remaining elements of {@code a} and {@code b} into
+     * {@code result}. All three positions advance by the element count.
+     * Heap buffers take the array path; direct buffers use a scalar loop,
+     * since the Vector API has no {@code IntBuffer} loads.
+     */
+    public void add(IntBuffer a, IntBuffer b, IntBuffer result) {
+        int n = checkLengths(a.remaining(), b.remaining(), result.remaining());
+        if (a.hasArray() && b.hasArray() && result.hasArray()) {
+            int aOff = a.arrayOffset() + a.position();
+            int bOff = b.arrayOffset() + b.position();
+            int rOff = result.arrayOffset() + result.position();
+            int[] x = a.array();
+            int[] y = b.array();
+            int[] r = result.array();
+            int i = VECTOR_API_AVAILABLE ? IntBatchKernel.add(x, aOff, y, bOff, r, rOff, n) : 0;
+            for (; i < n; i++) {
+                r[rOff + i] = x[aOff + i] + y[bOff + i];
+            }
+        } else {
+            for (int i = 0, pa = a.position(), pb = b.position(), pr = result.position(); i < n; i++) {
+                result.put(pr + i, a.get(pa + i) + b.get(pb + i));
+            }
+        }
+        advance(a, b, result, n);
+    }
+
+    /** Subtracts element-wise; same buffer contract as {@link #add(IntBuffer, IntBuffer, IntBuffer)}. */
+    public void subtract(IntBuffer a, IntBuffer b, IntBuffer result) {
+        int n = checkLengths(a.remaining(), b.remaining(), result.remaining());
+        if (a.hasArray() && b.hasArray() && result.hasArray()) {
+            int aOff = a.arrayOffset() + a.position();
+            int bOff = b.arrayOffset() + b.position();
+            int rOff = result.arrayOffset() + result.position();
+            int[] x = a.array();
+            int[] y = b.array();
+            int[] r = result.array();
+            int i = VECTOR_API_AVAILABLE ? IntBatchKernel.subtract(x, aOff, y, bOff, r, rOff, n) : 0;
+            for (; i < n; i++) {
+                r[rOff + i] = x[aOff + i] - y[bOff + i];
+            }
+        } else {
+            for (int i = 0, pa = a.position(), pb = b.position(), pr = result.position(); i < n; i++) {
+                result.put(pr + i, a.get(pa + i) - b.get(pb + i));
+            }
+        }
+        advance(a, b, result, n);
+    }
+
+    /** Multiplies element-wise; same buffer contract as {@link #add(IntBuffer, IntBuffer, IntBuffer)}. */
+    public void multiply(IntBuffer a, IntBuffer b, IntBuffer result) {
+        int n = checkLengths(a.remaining(), b.remaining(), result.remaining());
+        if (a.hasArray() && b.hasArray() && result.hasArray()) {
+            int aOff = a.arrayOffset() + a.position();
+            int bOff = b.arrayOffset() + b.position();
+            int rOff = result.arrayOffset() + result.position();
+            int[] x = a.array();
+            int[] y = b.array();
+            int[] r = result.array();
+            int i = VECTOR_API_AVAILABLE ? IntBatchKernel.multiply(x, aOff, y, bOff, r, rOff, n) : 0;
+            for (; i < n; i++) {
+                r[rOff + i] = x[aOff + i] * y[bOff + i];
+            }
+        } else {
+            for (int i = 0, pa = a.position(), pb = b.position(), pr = result.position(); i < n; i++) {
+                result.put(pr + i, a.get(pa + i) * b.get(pb + i));
+            }
+        }
+        advance(a, b, result, n);
+    }
+
+    /**
+     * Divides element-wise without throwing, with the buffer contract of
+     * {@link #add(IntBuffer, IntBuffer, IntBuffer)}. Zero-divisor lanes yield
+     * 0 and, when {@code zeroLanes} is not null, are recorded there relative
+     * to the starting positions. Returns the number of zero divisors.
+     */
+    public int divide(IntBuffer a, IntBuffer b, IntBuffer result, BitSet zeroLanes) {
+        int n = checkLengths(a.remaining(), b.remaining(), result.remaining());
+        int zeros;
+        if (a.hasArray() && b.hasArray() && result.hasArray()) {
+            zeros = divide(a.array(), a.arrayOffset() + a.position(), b.array(), b.arrayOffset() + b.position(),
+                result.array(), result.arrayOffset() + result.position(), n, zeroLanes);
+        } else {
+            zeros = 0;
+            for (int i = 0, pa = a.position(), pb = b.position(), pr = result.position(); i < n; i++) {
+                int divisor = b.get(pb + i);
+                if (divisor == 0) {
+                    zeros++;
+                    if (zeroLanes != null) {
+                        zeroLanes.set(i);
+                    }
+                    result.put(pr + i, 0);
+                } else {
+                    result.put(pr + i, a.get(pa + i) / divisor);
+                }
+            }
+        }
+        advance(a, b, result, n);
+        return zeros;
+    }
+
+    private static int divide(int[] a, int aOff, int[] b, int bOff, int[] r, int rOff, int n, BitSet zeroLanes) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int divisor = b[bOff + i];
+            if (divisor == 0) {
+                count++;
+                if (zeroLanes != null) {
+                    zeroLanes.set(i);
+                }
+                r[rOff + i] = 0;
+            } else {
+                r[rOff + i] = a[aOff + i] / divisor;
+            }
+        }
+        return count;
+    }
+
+    private static int checkLengths(int a, int b, int result) {
+        if (a != b) {
+            throw new IllegalArgumentException("Operand lengths differ: " + a + " and " + b);
+        }
+        if (result < a) {
+            throw new IllegalArgumentException("Result has room for " + result + " of " + a + " elements");
+        }
+        return a;
+    }
+
+    private static void advance(IntBuffer a, IntBuffer b, IntBuffer result, int n) {
+        a.position(a.position() + n);
+        b.position(b.position() + n);
+        result.position(result.position() + n);
+    }
+
+    private static boolean detectVectorApi() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return IntBatchKernel.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
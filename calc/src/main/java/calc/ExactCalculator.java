@@ -0,0 +1,141 @@
+package calc;
+
+import java.math.BigInteger;
+
+/**
+ * Overflow-free counterpart of {@link Calculator}: an accumulator whose
+ * result is always exact.
+ *
+ * <p>The value lives in a {@code long} and every operation goes through
+ * {@link Math#addExact(long, long)} and its siblings, so the common case is
+ * plain primitive arithmetic with no allocation. Only when a result leaves
+ * the {@code long} range does the accumulator spill to {@link BigInteger};
+ * it drops back to the primitive path as soon as a result fits again.
+ * Division truncates toward zero like {@code int} division, and a zero
+ * divisor throws the same {@link ArithmeticException} as
+ * {@link Calculator#divide(int, int)}.
+ *
+ * <pre>{@code
+ * ExactCalculator exact = new ExactCalculator();
+ * exact.set(Integer.MAX_VALUE).multiply(Integer.MAX_VALUE).multiply(4);
+ * exact.fitsLong();        // false: 2^64 - 2^34 + 4 spilled to BigInteger
+ * exact.toBigInteger();    // 18446744056529682436
+ * }</pre>
+ *
+ * <p>Instances are mutable and not thread-safe.
+ */
+public final class ExactCalculator {
+
+    private static final BigInteger LONG_MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    // The value while big is null
+    private long value;
+    // Non-null only while the value is outside the long range
+    private BigInteger big;
+
+    public ExactCalculator set(long v) {
+        value = v;
+        big = null;
+        return this;
+    }
+
+    public ExactCalculator set(BigInteger v) {
+        return normalize(v);
+    }
+
+    public ExactCalculator add(long operand) {
+        if (big == null) {
+            try {
+                value = Math.addExact(value, operand);
+                return this;
+            } catch (ArithmeticException overflow) {
+                return normalize(BigInteger.valueOf(value).add(BigInteger.valueOf(operand)));
+            }
+        }
+        return normalize(big.add(BigInteger.valueOf(operand)));
+    }
+
+    public ExactCalculator subtract(long operand) {
+        if (big == null) {
+            try {
+                value = Math.subtractExact(value, operand);
+                return this;
+            } catch (ArithmeticException overflow) {
+                return normalize(BigInteger.valueOf(value).subtract(BigInteger.valueOf(operand)));
+            }
+        }
+        return normalize(big.subtract(BigInteger.valueOf(operand)));
+    }
+
+    public ExactCalculator multiply(long operand) {
+        if (big == null) {
+            try {
+                value = Math.multiplyExact(value, operand);
+                return this;
+            } catch (ArithmeticException overflow) {
+                return normalize(BigInteger.valueOf(value).multiply(BigInteger.valueOf(operand)));
+            }
+        }
+        return normalize(big.multiply(BigInteger.valueOf(operand)));
+    }
+
+    public ExactCalculator divide(long operand) {
+        if (operand == 0) {
+            throw new ArithmeticException("Division by zero not allowed");
+        }
+        if (big == null) {
+            if (value == Long.MIN_VALUE && operand == -1) {
+                // The one long quotient that overflows
+                return normalize(BigInteger.valueOf(value).negate());
+            }
+            value /= operand;
+            return this;
+        }
+        return normalize(big.divide(BigInteger.valueOf(operand)));
+    }
+
+    public boolean fitsInt() {
+        return big == null && value == (int) value;
+    }
+
+    public boolean fitsLong() {
+        return big == null;
+    }
+
+    /** The value as an {@code int}; throws {@link ArithmeticException} when it does not fit. */
+    public int intValue() {
+        if (!fitsInt()) {
+            throw new ArithmeticException("Result does not fit in an int: " + this);
+        }
+        return (int) value;
+    }
+
+    /** The value as a {@code long}; throws {@link ArithmeticException} when it does not fit. */
+    public long longValue() {
+        if (big != null) {
+            throw new ArithmeticException("Result does not fit in a long: " + big);
+        }
+        return value;
+    }
+
+    public BigInteger toBigInteger() {
+        return big != null ? big : BigInteger.valueOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return big != null ? big.toString() : Long.toString(value);
+    }
+
+    // Back on the primitive path whenever the result fits a long
+    private ExactCalculator normalize(BigInteger v) {
+        if (v.compareTo(LONG_MIN) >= 0 && v.compareTo(LONG_MAX) <= 0) {
+            value = v.longValue();
+            big = null;
+        } else {
+            big = v;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,359 @@
+package calc;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An integer formula compiled once into a tree of {@link MethodHandle}s.
+ *
+ * <p>Formulas use {@code + - * /}, unary minus, parentheses, int literals
+ * and variables. Every operator is evaluated through {@link Calculator}, so
+ * results wrap on overflow and a zero divisor throws the same
+ * {@link ArithmeticException}. Variables are numbered in order of first
+ * appearance; {@link #evaluate(int...)} takes their values in that order and
+ * allocates nothing. Constant subexpressions are folded at compile time,
+ * except divisions by a constant zero, which still throw when evaluated.
+ * Once an expression is hot, the JIT specialises its handle tree and
+ * inlines the whole formula, with no per-node dispatch. Compiled expressions
+ * are immutable and safe to share between threads.
+ *
+ * <p>Chains of {@code +}/{@code -} and runs of {@code *} are built as balanced
+ * trees, which wrap-around arithmetic makes exact, so a sum of thousands of
+ * terms stays shallow. Parentheses, unary operators and division chains nested
+ * deeper than {@link #MAX_DEPTH} are rejected as a syntax error rather than
+ * overflowing the stack.
+ *
+ * <pre>{@code
+ * Expression price = Expression.compile("base * (100 - discount) / 100");
+ * int total = price.evaluate(250, 15);   // 212
+ * }</pre>
+ */
+public final class Expression {
+
+    /** Deepest nesting of parentheses, unary operators or handle tree that {@link #compile} accepts. */
+    public static final int MAX_DEPTH = 256;
+
+    private static final Calculator CALCULATOR = new Calculator();
+    private static final MethodType EVALUATOR = MethodType.methodType(int.class, int[].class);
+    private static final MethodHandle ADD = operator("add");
+    private static final MethodHandle SUBTRACT = operator("subtract");
+    private static final MethodHandle MULTIPLY = operator("multiply");
+    private static final MethodHandle DIVIDE = operator("divide");
+    private static final MethodHandle VARIABLE = MethodHandles.arrayElementGetter(int[].class);
+
+    private final String source;
+    private final List<String> variables;
+    // (int[]) int
+    private final MethodHandle root;
+
+    private Expression(String source, List<String> variables, MethodHandle root) {
+        this.source = source;
+        this.variables = Collections.unmodifiableList(variables);
+        this.root = root;
+    }
+
+    /** Parses {@code source}; throws {@link IllegalArgumentException} on a syntax error. */
+    public static Expression compile(String source) {
+        Parser parser = new Parser(source);
+        MethodHandle root = parser.parse().handle();
+        return new Expression(source, parser.variables, root);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    /** Variable names, in the order {@link #evaluate(int...)} expects their values. */
+    public List<String> variables() {
+        return variables;
+    }
+
+    public int evaluate(int... values) {
+        if (values.length < variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size() + " variable values, got " + values.length);
+        }
+        try {
+            return (int) root.invokeExact(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // Calculator only throws unchecked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    // Calculator's (int, int) int operation, bound to the shared instance
+    private static MethodHandle operator(String name) {
+        try {
+            return MethodHandles.lookup()
+                .findVirtual(Calculator.class, name, MethodType.methodType(int.class, int.class, int.class))
+                .bindTo(CALCULATOR);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** A parsed subexpression: a known constant, or a handle of type (int[]) int. */
+    private static final class Term {
+        final MethodHandle handle;
+        final boolean constant;
+        final int value;
+        // Operator handles between this term and its leaves
+        final int depth;
+
+        private Term(MethodHandle handle, boolean constant, int value, int depth) {
+            this.handle = handle;
+            this.constant = constant;
+            this.value = value;
+            this.depth = depth;
+        }
+
+        static Term constant(int value) {
+            return new Term(null, true, value, 0);
+        }
+
+        static Term variable(int slot) {
+            return new Term(MethodHandles.insertArguments(VARIABLE, 1, slot), false, 0, 0);
+        }
+
+        MethodHandle handle() {
+            return constant
+                ? MethodHandles.dropArguments(MethodHandles.constant(int.class, value), 0, int[].class)
+                : handle;
+        }
+
+        /** {@code operator(left, right)}, evaluated now when both sides are constants. */
+        static Term apply(MethodHandle operator, Term left, Term right) {
+            if (left.constant && right.constant) {
+                try {
+                    return constant((int) operator.invokeExact(left.value, right.value));
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return combine(operator, left, right);
+        }
+
+        /** {@code operator(left, right)} as a handle, never folded. */
+        static Term combine(MethodHandle operator, Term left, Term right) {
+            // (int[], int[]) int, then both arguments fed from the one variables array
+            MethodHandle both = MethodHandles.filterArguments(operator, 0, left.handle(), right.handle());
+            return new Term(MethodHandles.permuteArguments(both, EVALUATOR, 0, 0), false, 0,
+                1 + Math.max(left.depth, right.depth));
+        }
+
+        boolean isZero() {
+            return constant && value == 0;
+        }
+    }
+
+    /** Recursive-descent parser: expr = term {(+|-) term}, term = unary {(*|/) unary}. */
+    private static final class Parser {
+        private final String text;
+        private final List<String> variables = new ArrayList<>();
+        private int pos;
+        private int nesting;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Term parse() {
+            Term term = expression();
+            skipSpaces();
+            if (pos < text.length()) {
+                throw error("Unexpected '" + text.charAt(pos) + "'");
+            }
+            return term;
+        }
+
+        private Term expression() {
+            List<Term> operands = new ArrayList<>();
+            BitSet negated = new BitSet();
+            operands.add(term());
+            while (true) {
+                if (accept('+')) {
+                    operands.add(term());
+                } else if (accept('-')) {
+                    negated.set(operands.size());
+                    operands.add(term());
+                } else {
+                    return sum(operands, negated, 0, operands.size(), false);
+                }
+            }
+        }
+
+        /**
+         * Balanced sum of {@code operands[from, to)}, each negated when its bit in
+         * {@code negated} differs from {@code flip}; the first operand must come out
+         * positive. Exact because + and - wrap.
+         */
+        private Term sum(List<Term> operands, BitSet negated, int from, int to, boolean flip) {
+            if (to - from == 1) {
+                return operands.get(from);
+            }
+            int mid = (from + to) >>> 1;
+            Term left = sum(operands, negated, from, mid, flip);
+            // The right half is summed relative to its own first operand's sign
+            Term right = sum(operands, negated, mid, to, negated.get(mid));
+            return apply(negated.get(mid) != flip ? SUBTRACT : ADD, left, right);
+        }
+
+        private Term term() {
+            // Each run of * is multiplied as a balanced tree; each / divides everything to its left
+            List<Term> factors = new ArrayList<>();
+            Term quotient = null;
+            factors.add(unary());
+            while (true) {
+                if (accept('*')) {
+                    factors.add(unary());
+                } else if (accept('/')) {
+                    Term dividend = product(quotient, factors);
+                    Term divisor = unary();
+                    // Keep x / 0 unfolded so it throws at evaluation, like Calculator.divide
+                    quotient = divisor.isZero() ? combine(DIVIDE, dividend, divisor) : apply(DIVIDE, dividend, divisor);
+                    factors.clear();
+                } else {
+                    return product(quotient, factors);
+                }
+            }
+        }
+
+        /** {@code quotient * factors[0] * ... }, either part possibly absent. */
+        private Term product(Term quotient, List<Term> factors) {
+            if (factors.isEmpty()) {
+                return quotient;
+            }
+            Term run = product(factors, 0, factors.size());
+            return quotient == null ? run : apply(MULTIPLY, quotient, run);
+        }
+
+        private Term product(List<Term> factors, int from, int to) {
+            if (to - from == 1) {
+                return factors.get(from);
+            }
+            int mid = (from + to) >>> 1;
+            return apply(MULTIPLY, product(factors, from, mid), product(factors, mid, to));
+        }
+
+        private Term unary() {
+            if (accept('-')) {
+                skipSpaces();
+                if (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                    // A negated literal, so that -2147483648 is in range
+                    return number(true);
+                }
+                enter();
+                Term operand = unary();
+                nesting--;
+                return apply(SUBTRACT, Term.constant(0), operand);
+            }
+            if (accept('+')) {
+                enter();
+                Term operand = unary();
+                nesting--;
+                return operand;
+            }
+            return primary();
+        }
+
+        private Term primary() {
+            skipSpaces();
+            if (accept('(')) {
+                enter();
+                Term term = expression();
+                if (!accept(')')) {
+                    throw error("Expected ')'");
+                }
+                nesting--;
+                return term;
+            }
+            if (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                return number(false);
+            }
+            if (pos < text.length() && Character.isJavaIdentifierStart(text.charAt(pos))) {
+                return variable();
+            }
+            throw error(pos < text.length() ? "Unexpected '" + text.charAt(pos) + "'" : "Unexpected end of expression");
+        }
+
+        private Term number(boolean negative) {
+            int start = pos;
+            long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+            long value = 0;
+            while (pos < text.length() && Character.isDigit(text.charAt(pos))) {
+                value = value * 10 + (text.charAt(pos++) - '0');
+                if (value > limit) {
+                    throw error("Number too large: " + (negative ? "-" : "") + text.substring(start, pos));
+                }
+            }
+            return Term.constant((int) (negative ? -value : value));
+        }
+
+        private Term variable() {
+            int start = pos;
+            while (pos < text.length() && Character.isJavaIdentifierPart(text.charAt(pos))) {
+                pos++;
+            }
+            String name = text.substring(start, pos);
+            int slot = variables.indexOf(name);
+            if (slot < 0) {
+                slot = variables.size();
+                variables.add(name);
+            }
+            return Term.variable(slot);
+        }
+
+        private void enter() {
+            if (++nesting > MAX_DEPTH) {
+                throw error("Expression nested deeper than " + MAX_DEPTH);
+            }
+        }
+
+        private Term apply(MethodHandle operator, Term left, Term right) {
+            return checkDepth(Term.apply(operator, left, right));
+        }
+
+        private Term combine(MethodHandle operator, Term left, Term right) {
+            return checkDepth(Term.combine(operator, left, right));
+        }
+
+        private Term checkDepth(Term term) {
+            if (term.depth > MAX_DEPTH) {
+                throw error("Expression nested deeper than " + MAX_DEPTH);
+            }
+            return term;
+        }
+
+        private boolean accept(char c) {
+            skipSpaces();
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at position " + pos + " in \"" + text + "\"");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package calc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU cache of compiled {@link Expression}s keyed by source text, so a
+ * formula evaluated again and again is only parsed once. Thread-safe.
+ */
+public final class ExpressionCache {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final Map<String, Expression> cache;
+    private long hits;
+    private long misses;
+
+    public ExpressionCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ExpressionCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Expression> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /** The cached compilation of {@code source}, compiling and caching it on a miss. */
+    public Expression compile(String source) {
+        synchronized (this) {
+            Expression expression = cache.get(source);
+            if (expression != null) {
+                hits++;
+                return expression;
+            }
+            misses++;
+        }
+        // Parse outside the lock; a concurrent miss on the same text just compiles it twice
+        Expression compiled = Expression.compile(source);
+        synchronized (this) {
+            Expression existing = cache.putIfAbsent(source, compiled);
+            return existing != null ? existing : compiled;
+        }
+    }
+
+    /** Compiles (or reuses) {@code source} and evaluates it. */
+    public int evaluate(String source, int... values) {
+        return compile(source).evaluate(values);
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package calc;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API loops behind {@link Calculator}'s batch add, subtract and
+ * multiply. Only loaded once {@code Calculator} has confirmed that
+ * {@code jdk.incubator.vector} is resolved. Every method leaves the last
+ * {@code n % lanes} elements to the caller's scalar tail and returns where
+ * that tail starts.
+ *
+ * <p>There is no divide: x86 has no SIMD integer division, and the batch
+ * divide must also find and report every zero divisor, so it stays a scalar
+ * loop.
+ */
+final class IntBatchKernel {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+    private IntBatchKernel() {
+    }
+
+    static int lanes() {
+        return INTS.length();
+    }
+
+    static int add(int[] a, int aOff, int[] b, int bOff, int[] r, int rOff, int n) {
+        int upper = INTS.loopBound(n);
+        for (int i = 0; i < upper; i += INTS.length()) {
+            IntVector.fromArray(INTS, a, aOff + i)
+                .add(IntVector.fromArray(INTS, b, bOff + i))
+                .intoArray(r, rOff + i);
+        }
+        return upper;
+    }
+
+    static int subtract(int[] a, int aOff, int[] b, int bOff, int[] r, int rOff, int n) {
+        int upper = INTS.loopBound(n);
+        for (int i = 0; i < upper; i += INTS.length()) {
+            IntVector.fromArray(INTS, a, aOff + i)
+                .sub(IntVector.fromArray(INTS, b, bOff + i))
+                .intoArray(r, rOff + i);
+        }
+        return upper;
+    }
+
+    static int multiply(int[] a, int aOff, int[] b, int bOff, int[] r, int rOff, int n) {
+        int upper = INTS.loopBound(n);
+        for (int i = 0; i < upper; i += INTS.length()) {
+            IntVector.fromArray(INTS, a, aOff + i)
+                .mul(IntVector.fromArray(INTS, b, bOff + i))
+                .intoArray(r, rOff + i);
+        }
+        return upper;
+    }
+}
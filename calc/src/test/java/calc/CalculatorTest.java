@@ -0,0 +1,366 @@
+package calc;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class CalculatorTest {
+
+    private Calculator calc;
+
+    @BeforeEach
+    void setUp() {
+        calc = new Calculator();
+    }
+
+    @Nested
+    @DisplayName("Addition Tests")
+    class AdditionTests {
+        @Test
+        @DisplayName("Adding two positive numbers")
+        void testAddPositiveNumbers() {
+            assertEquals(5, calc.add(2, 3), "2 + 3 should equal 5");
+        }
+
+        @Test
+        @DisplayName("Adding negative and positive numbers")
+        void testAddNegativeAndPositive() {
+            assertEquals(0, calc.add(-2, 2), "-2 + 2 should equal 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Subtraction Tests")
+    class SubtractionTests {
+        @Test
+        @DisplayName("Subtracting two positive numbers")
+        void testSubtractPositiveNumbers() {
+            assertEquals(1, calc.subtract(3, 2), "3 - 2 should equal 1");
+        }
+
+        @Test
+        @DisplayName("Subtracting from a negative number")
+        void testSubtractFromNegative() {
+            assertEquals(-5, calc.subtract(-2, 3), "-2 - 3 should equal -5");
+        }
+    }
+
+    @Nested
+    @DisplayName("Multiplication Tests")
+    class MultiplicationTests {
+        @Test
+        @DisplayName("Multiplying two positive numbers")
+        void testMultiplyPositiveNumbers() {
+            assertEquals(6, calc.multiply(2, 3), "2 * 3 should equal 6");
+        }
+
+        @Test
+        @DisplayName("Multiplying by zero")
+        void testMultiplyByZero() {
+            assertEquals(0, calc.multiply(0, 10), "0 * 10 should equal 0");
+        }
+    }
+
+    @Nested
+    @DisplayName("Division Tests")
+    class DivisionTests {
+        @Test
+        @DisplayName("Dividing two positive numbers")
+        void testDividePositiveNumbers() {
+            assertEquals(2, calc.divide(6, 3), "6 / 3 should equal 2");
+        }
+
+        @Test
+        @DisplayName("Division by zero throws exception")
+        void testDivisionByZero() {
+            Exception exception = assertThrows(ArithmeticException.class, () -> {
+                calc.divide(5, 0);
+            });
+            assertEquals("Division by zero not allowed", exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Expression Tests")
+    class ExpressionTests {
+        @Test
+        @DisplayName("Operator precedence and parentheses")
+        void testPrecedence() {
+            assertEquals(14, Expression.compile("2 + 3 * 4").evaluate());
+            assertEquals(20, Expression.compile("(2 + 3) * 4").evaluate());
+            assertEquals(-1, Expression.compile("-(7 - 6)").evaluate());
+            assertEquals(2, Expression.compile("20 / 3 / 3").evaluate(), "Division is left-associative");
+        }
+
+        @Test
+        @DisplayName("Variables are bound in order of first appearance")
+        void testVariables() {
+            Expression price = Expression.compile("base * (100 - discount) / 100 + base / base");
+            assertEquals(List.of("base", "discount"), price.variables());
+            assertEquals(213, price.evaluate(250, 15));
+            assertEquals(86, price.evaluate(100, 15));
+        }
+
+        @Test
+        @DisplayName("Overflow wraps like Calculator")
+        void testOverflowWraps() {
+            assertEquals(calc.add(Integer.MAX_VALUE, 1), Expression.compile("x + 1").evaluate(Integer.MAX_VALUE));
+            assertEquals(calc.multiply(65536, 65536), Expression.compile("65536 * 65536").evaluate());
+        }
+
+        @Test
+        @DisplayName("Division by zero throws at evaluation")
+        void testDivisionByZero() {
+            Expression expression = Expression.compile("a / (b - 2)");
+            assertEquals(5, expression.evaluate(10, 4));
+            Exception exception = assertThrows(ArithmeticException.class, () -> expression.evaluate(10, 2));
+            assertEquals("Division by zero not allowed", exception.getMessage());
+
+            Expression constant = Expression.compile("1 / 0");
+            assertThrows(ArithmeticException.class, constant::evaluate);
+        }
+
+        @Test
+        @DisplayName("Syntax errors are rejected at compile time")
+        void testSyntaxErrors() {
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("1 +"));
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("(1 + 2"));
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("1 2"));
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("2147483648"));
+        }
+
+        @Test
+        @DisplayName("Integer.MIN_VALUE is a valid negated literal")
+        void testMinValueLiteral() {
+            assertEquals(Integer.MIN_VALUE, Expression.compile("-2147483648").evaluate());
+            assertEquals(Integer.MIN_VALUE, Expression.compile("- 2147483648 * 1").evaluate());
+            assertEquals(calc.subtract(5, Integer.MIN_VALUE), Expression.compile("x - -2147483648").evaluate(5));
+            assertEquals(-2147483647, Expression.compile("-2147483647").evaluate());
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("-2147483649"));
+        }
+
+        @Test
+        @DisplayName("Long operator chains evaluate left to right without deep recursion")
+        void testLongChains() {
+            int terms = 10_000;
+            assertEquals(terms * 7, Expression.compile(chain("x", "+", terms)).evaluate(7));
+            assertEquals(1, Expression.compile(chain("x", "*", terms)).evaluate(-1));
+
+            // Mixed + and -, and * with occasional /, against a left fold through Calculator
+            Random random = new Random(22);
+            StringBuilder sum = new StringBuilder("v0");
+            StringBuilder product = new StringBuilder("v0");
+            int[] values = new int[8];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextInt();
+            }
+            int expectedSum = values[0];
+            int expectedProduct = values[0];
+            for (int i = 1; i < terms; i++) {
+                int slot = random.nextInt(values.length);
+                if (random.nextBoolean()) {
+                    sum.append(" + v").append(slot);
+                    expectedSum = calc.add(expectedSum, values[slot]);
+                } else {
+                    sum.append(" - v").append(slot);
+                    expectedSum = calc.subtract(expectedSum, values[slot]);
+                }
+                if (i % 100 == 0) {
+                    product.append(" / 3");
+                    expectedProduct = calc.divide(expectedProduct, 3);
+                } else {
+                    product.append(" * v").append(slot);
+                    expectedProduct = calc.multiply(expectedProduct, values[slot]);
+                }
+            }
+            Expression sumExpression = Expression.compile(sum.toString());
+            int[] arguments = new int[values.length];
+            for (int i = 0; i < values.length; i++) {
+                arguments[i] = values[Integer.parseInt(sumExpression.variables().get(i).substring(1))];
+            }
+            assertEquals(expectedSum, sumExpression.evaluate(arguments));
+            Expression productExpression = Expression.compile(product.toString());
+            for (int i = 0; i < values.length; i++) {
+                arguments[i] = values[Integer.parseInt(productExpression.variables().get(i).substring(1))];
+            }
+            assertEquals(expectedProduct, productExpression.evaluate(arguments));
+        }
+
+        @Test
+        @DisplayName("Nesting beyond MAX_DEPTH is a syntax error, not a stack overflow")
+        void testNestingLimit() {
+            int depth = Expression.MAX_DEPTH;
+            assertEquals(3, Expression.compile("(".repeat(depth) + "x" + ")".repeat(depth)).evaluate(3));
+            assertEquals(3, Expression.compile("-".repeat(depth) + "x").evaluate(3), "An even number of minus signs");
+            assertThrows(IllegalArgumentException.class,
+                () -> Expression.compile("(".repeat(20_000) + "x" + ")".repeat(20_000)));
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile("-".repeat(20_000) + "x"));
+            assertThrows(IllegalArgumentException.class, () -> Expression.compile(chain("x", "/", depth + 2)));
+            assertEquals(1, Expression.compile(chain("x", "/", depth)).evaluate(1));
+        }
+
+        @Test
+        @DisplayName("Cache reuses compiled expressions and evicts the least recently used")
+        void testCache() {
+            ExpressionCache cache = new ExpressionCache(2);
+            Expression first = cache.compile("x + 1");
+            assertSame(first, cache.compile("x + 1"));
+            cache.compile("x + 2");
+            cache.compile("x + 1");
+            cache.compile("x + 3");
+            assertEquals(2, cache.size());
+            assertSame(first, cache.compile("x + 1"), "Recently used entry should survive");
+            assertEquals(3, cache.hits());
+            assertEquals(3, cache.misses());
+            assertEquals(6, cache.evaluate("x + 2", 4), "x + 2 was evicted and is compiled again");
+        }
+
+        private String chain(String operand, String operator, int count) {
+            StringBuilder text = new StringBuilder(operand);
+            for (int i = 1; i < count; i++) {
+                text.append(' ').append(operator).append(' ').append(operand);
+            }
+            return text.toString();
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Tests")
+    class BatchTests {
+        // Long enough for several vector iterations plus a scalar tail
+        private final int[] a = {7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, 100, -100, 65536, 9, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28};
+        private final int[] b = {2, 2, 1, -1, 5, 0, 3, 65536, -3, 0, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 0};
+
+        @Test
+        @DisplayName("Array add, subtract and multiply match the scalar operations")
+        void testArrayOperations() {
+            int[] sum = new int[a.length];
+            int[] difference = new int[a.length];
+            int[] product = new int[a.length];
+            calc.add(a, b, sum);
+            calc.subtract(a, b, difference);
+            calc.multiply(a, b, product);
+            for (int i = 0; i < a.length; i++) {
+                assertEquals(calc.add(a[i], b[i]), sum[i], "add at " + i);
+                assertEquals(calc.subtract(a[i], b[i]), difference[i], "subtract at " + i);
+                assertEquals(calc.multiply(a[i], b[i]), product[i], "multiply at " + i);
+            }
+        }
+
+        @Test
+        @DisplayName("Array divide reports zero divisors instead of throwing")
+        void testArrayDivide() {
+            int[] quotient = new int[a.length];
+            BitSet zeroLanes = new BitSet();
+            assertEquals(3, calc.divide(a, b, quotient, zeroLanes));
+            assertEquals(BitSet.valueOf(new long[] {(1L << 5) | (1L << 9) | (1L << 36)}), zeroLanes);
+            for (int i = 0; i < a.length; i++) {
+                assertEquals(b[i] == 0 ? 0 : calc.divide(a[i], b[i]), quotient[i], "divide at " + i);
+            }
+            assertEquals(Integer.MIN_VALUE, quotient[3], "MIN_VALUE / -1 wraps like the scalar divide");
+        }
+
+        @Test
+        @DisplayName("IntBuffer operations work on heap slices and direct buffers")
+        void testBuffers() {
+            int[] expected = new int[a.length];
+            calc.multiply(a, b, expected);
+            for (boolean direct : new boolean[] {false, true}) {
+                IntBuffer x = buffer(a, direct);
+                IntBuffer y = buffer(b, direct);
+                IntBuffer result = buffer(new int[a.length], direct);
+                calc.multiply(x, y, result);
+                assertEquals(a.length, result.position(), "positions advance past the processed elements");
+                for (int i = 0; i < a.length; i++) {
+                    assertEquals(expected[i], result.get(i), "multiply at " + i);
+                }
+
+                x.rewind();
+                y.rewind();
+                result.rewind();
+                BitSet zeroLanes = new BitSet();
+                assertEquals(3, calc.divide(x, y, result, zeroLanes));
+                assertEquals(3, zeroLanes.cardinality());
+            }
+        }
+
+        @Test
+        @DisplayName("Mismatched lengths are rejected")
+        void testLengthMismatch() {
+            assertThrows(IllegalArgumentException.class, () -> calc.add(new int[3], new int[2], new int[3]));
+            assertThrows(IllegalArgumentException.class, () -> calc.add(new int[3], new int[3], new int[2]));
+        }
+
+        private IntBuffer buffer(int[] values, boolean direct) {
+            if (direct) {
+                IntBuffer buffer = ByteBuffer.allocateDirect(values.length * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder()).asIntBuffer();
+                buffer.put(values).flip();
+                return buffer;
+            }
+            // A slice with a non-zero array offset
+            int[] backing = new int[values.length + 3];
+            System.arraycopy(values, 0, backing, 3, values.length);
+            return IntBuffer.wrap(backing, 3, values.length).slice();
+        }
+    }
+
+    @Nested
+    @DisplayName("Exact Mode Tests")
+    class ExactTests {
+        @Test
+        @DisplayName("Results that fit stay on the int and long path")
+        void testFastPath() {
+            ExactCalculator exact = new ExactCalculator().set(6).multiply(7).subtract(2).divide(4);
+            assertTrue(exact.fitsInt());
+            assertEquals(10, exact.intValue());
+        }
+
+        @Test
+        @DisplayName("Int overflow spills to long instead of wrapping")
+        void testIntOverflow() {
+            ExactCalculator exact = new ExactCalculator().set(Integer.MAX_VALUE).add(1);
+            assertFalse(exact.fitsInt());
+            assertTrue(exact.fitsLong());
+            assertEquals(2147483648L, exact.longValue());
+            assertThrows(ArithmeticException.class, exact::intValue);
+            assertEquals(4611686014132420609L, exact.set(Integer.MAX_VALUE).multiply(Integer.MAX_VALUE).longValue());
+        }
+
+        @Test
+        @DisplayName("Long overflow spills to BigInteger and drops back when it fits")
+        void testLongOverflow() {
+            ExactCalculator exact = new ExactCalculator().set(Long.MAX_VALUE).multiply(4);
+            assertFalse(exact.fitsLong());
+            assertEquals(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(2), exact.toBigInteger());
+            assertThrows(ArithmeticException.class, exact::longValue);
+
+            exact.divide(8);
+            assertTrue(exact.fitsLong(), "Back in range after dividing");
+            assertEquals(Long.MAX_VALUE / 2, exact.longValue());
+
+            assertEquals(BigInteger.valueOf(Long.MIN_VALUE).negate(),
+                exact.set(Long.MIN_VALUE).divide(-1).toBigInteger());
+
+            exact.set(Integer.MAX_VALUE).multiply(Integer.MAX_VALUE).multiply(4);
+            assertFalse(exact.fitsLong());
+            assertEquals(new BigInteger("18446744056529682436"), exact.toBigInteger(), "Class doc example");
+        }
+
+        @Test
+        @DisplayName("Division by zero throws like Calculator")
+        void testDivisionByZero() {
+            Exception exception = assertThrows(ArithmeticException.class, () -> new ExactCalculator().set(5).divide(0));
+            assertEquals("Division by zero not allowed", exception.getMessage());
+        }
+    }
+}
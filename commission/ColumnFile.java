@@ -0,0 +1,90 @@
+package commission;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One primitive column per file, read and written through memory-mapped
+ * {@link FileChannel}s.
+ *
+ * <p>Layout (little-endian): a 16-byte header of magic {@code "OCOL"},
+ * version, element type ({@link #INT32} or {@link #FLOAT64}) and element
+ * count, followed by the packed values. A column is mapped in one piece, so
+ * it may hold up to about 2 GB of data.
+ */
+public final class ColumnFile {
+
+    public static final int MAGIC = 0x4C4F434F; // "OCOL" read little-endian
+    public static final int VERSION = 1;
+    public static final int INT32 = 1;
+    public static final int FLOAT64 = 2;
+    public static final int HEADER_BYTES = 16;
+
+    private ColumnFile() {
+    }
+
+    public static void writeInts(Path path, int[] values, int count) throws IOException {
+        MappedByteBuffer buffer = create(path, INT32, count, Integer.BYTES);
+        buffer.asIntBuffer().put(values, 0, count);
+        buffer.force();
+    }
+
+    public static void writeDoubles(Path path, double[] values, int count) throws IOException {
+        MappedByteBuffer buffer = create(path, FLOAT64, count, Double.BYTES);
+        buffer.asDoubleBuffer().put(values, 0, count);
+        buffer.force();
+    }
+
+    /** Maps an int column read-only; the buffer's limit is the element count. */
+    public static IntBuffer mapInts(Path path) throws IOException {
+        return map(path, INT32, Integer.BYTES).asIntBuffer();
+    }
+
+    /** Maps a double column read-only; the buffer's limit is the element count. */
+    public static DoubleBuffer mapDoubles(Path path) throws IOException {
+        return map(path, FLOAT64, Double.BYTES).asDoubleBuffer();
+    }
+
+    private static MappedByteBuffer create(Path path, int type, int count, int width) throws IOException {
+        long bytes = HEADER_BYTES + (long) count * width;
+        if (count < 0 || bytes > Integer.MAX_VALUE) {
+            throw new IOException("Column of " + count + " elements is too large to map");
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(type).putInt(count);
+            // The mapping stays valid after the channel is closed
+            return buffer;
+        }
+    }
+
+    private static MappedByteBuffer map(Path path, int type, int width) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a column file");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException(path + " is not a column file");
+            }
+            if (buffer.getInt(8) != type) {
+                throw new IOException(path + ": expected column type " + type + " but found " + buffer.getInt(8));
+            }
+            int count = buffer.getInt(12);
+            if (count < 0 || HEADER_BYTES + (long) count * width > channel.size()) {
+                throw new IOException(path + " is truncated");
+            }
+            buffer.position(HEADER_BYTES).limit(HEADER_BYTES + count * width);
+            return buffer;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package commission;
+
+import common.NumberInput;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Binary columnar form of a commission batch.
+ *
+ * <p>An order batch is a directory of four {@link ColumnFile} int columns,
+ * {@code salesperson}, {@code locks}, {@code stocks} and {@code barrels},
+ * one element per order line. The result directory holds one row per
+ * salesperson with orders, in id order: int columns {@code salesperson},
+ * {@code locks}, {@code stocks}, {@code barrels} and double columns
+ * {@code sales} and {@code commission}. Columns are read straight from their
+ * mappings into a {@link SalesLedger}, so no object is created per order.
+ */
+public final class ColumnarBatch {
+
+    public static final String SALESPERSON = "salesperson.col";
+    public static final String LOCKS = "locks.col";
+    public static final String STOCKS = "stocks.col";
+    public static final String BARRELS = "barrels.col";
+    public static final String SALES = "sales.col";
+    public static final String COMMISSION = "commission.col";
+
+    private ColumnarBatch() {
+    }
+
+    /** Writes the salesperson and item columns of {@code orders}; the month column is not stored. */
+    public static void writeOrders(Path dir, OrderColumns orders) throws IOException {
+        int n = orders.size();
+        int[] column = new int[n];
+        Files.createDirectories(dir);
+        for (int i = 0; i < n; i++) {
+            column[i] = orders.salesperson(i);
+        }
+        ColumnFile.writeInts(dir.resolve(SALESPERSON), column, n);
+        for (int i = 0; i < n; i++) {
+            column[i] = orders.locks(i);
+        }
+        ColumnFile.writeInts(dir.resolve(LOCKS), column, n);
+        for (int i = 0; i < n; i++) {
+            column[i] = orders.stocks(i);
+        }
+        ColumnFile.writeInts(dir.resolve(STOCKS), column, n);
+        for (int i = 0; i < n; i++) {
+            column[i] = orders.barrels(i);
+        }
+        ColumnFile.writeInts(dir.resolve(BARRELS), column, n);
+    }
+
+    /** Applies every order in the batch directory to {@code ledger}, in file order. */
+    public static SalesLedger recordAll(Path dir, SalesLedger ledger) throws IOException {
+        IntBuffer salesperson = ColumnFile.mapInts(dir.resolve(SALESPERSON));
+        IntBuffer locks = ColumnFile.mapInts(dir.resolve(LOCKS));
+        IntBuffer stocks = ColumnFile.mapInts(dir.resolve(STOCKS));
+        IntBuffer barrels = ColumnFile.mapInts(dir.resolve(BARRELS));
+        int n = salesperson.limit();
+        if (locks.limit() != n || stocks.limit() != n || barrels.limit() != n) {
+            throw new IOException(dir + ": columns have different lengths");
+        }
+        for (int i = 0; i < n; i++) {
+            ledger.record(salesperson.get(i), locks.get(i), stocks.get(i), barrels.get(i));
+        }
+        return ledger;
+    }
+
+    /** Writes one result row per salesperson with orders, in id order. */
+    public static void writeResults(Path dir, SalesLedger ledger) throws IOException {
+        int rows = 0;
+        for (int id = 0; id < ledger.size(); id++) {
+            if (ledger.hasOrders(id)) {
+                rows++;
+            }
+        }
+        int[] ids = new int[rows];
+        int[] locks = new int[rows];
+        int[] stocks = new int[rows];
+        int[] barrels = new int[rows];
+        double[] sales = new double[rows];
+        double[] commission = new double[rows];
+        int row = 0;
+        for (int id = 0; id < ledger.size(); id++) {
+            if (!ledger.hasOrders(id)) {
+                continue;
+            }
+            ids[row] = id;
+            locks[row] = ledger.locks(id);
+            stocks[row] = ledger.stocks(id);
+            barrels[row] = ledger.barrels(id);
+            sales[row] = CommissionRules.sales(locks[row], stocks[row], barrels[row]);
+            commission[row] = CommissionRules.commission(sales[row]);
+            row++;
+        }
+        Files.createDirectories(dir);
+        ColumnFile.writeInts(dir.resolve(SALESPERSON), ids, rows);
+        ColumnFile.writeInts(dir.resolve(LOCKS), locks, rows);
+        ColumnFile.writeInts(dir.resolve(STOCKS), stocks, rows);
+        ColumnFile.writeInts(dir.resolve(BARRELS), barrels, rows);
+        ColumnFile.writeDoubles(dir.resolve(SALES), sales, rows);
+        ColumnFile.writeDoubles(dir.resolve(COMMISSION), commission, rows);
+    }
+
+    /**
+     * {@code ColumnarBatch --import <orders-dir>} converts
+     * {@code salesperson locks stocks barrels} text on stdin into columns;
+     * {@code ColumnarBatch <orders-dir> <result-dir>} computes a batch.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 2 && args[0].equals("--import")) {
+            OrderColumns orders = new OrderColumns();
+            try (NumberInput in = NumberInput.stdin()) {
+                while (in.hasNext()) {
+                    int salesperson = in.nextInt();
+                    int lockCount = in.nextInt();
+                    int stockCount = in.nextInt();
+                    int barrelCount = in.nextInt();
+                    orders.add(0, salesperson, lockCount, stockCount, barrelCount);
+                }
+            }
+            writeOrders(Paths.get(args[1]), orders);
+        } else if (args.length == 2) {
+            SalesLedger ledger = recordAll(Paths.get(args[0]), new SalesLedger());
+            writeResults(Paths.get(args[1]), ledger);
+            System.err.println("Rejected items: " + ledger.rejectedOutOfRange() + " out of range, "
+                + ledger.rejectedOverTotal() + " over the monthly total");
+        } else {
+            System.err.println("Usage: ColumnarBatch --import <orders-dir> < orders.txt");
+            System.err.println("       ColumnarBatch <orders-dir> <result-dir>");
+            System.exit(2);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package commission;
+
+/**
+ * Prices, monthly caps, validation and commission tiers shared by the
+ * interactive {@link SalesCommission} tool and the batch {@link SalesLedger}.
+ */
+public final class CommissionRules {
+
+    public static final double LOCK_PRICE = 45.0;
+    public static final double STOCK_PRICE = 30.0;
+    public static final double BARREL_PRICE = 25.0;
+
+    public static final int MAX_LOCKS = 70;
+    public static final int MAX_STOCKS = 80;
+    public static final int MAX_BARRELS = 90;
+
+    // Outcomes of check()
+    public static final int ACCEPTED = 0;
+    public static final int OUT_OF_RANGE = 1;
+    public static final int OVER_TOTAL = 2;
+
+    private CommissionRules() {
+    }
+
+    /**
+     * Validates one item quantity of an order: it must lie in {@code 1..max}
+     * and must not push the running total past {@code max}.
+     */
+    public static int check(int quantity, int total, int max) {
+        if (quantity < 1 || quantity > max) {
+            return OUT_OF_RANGE;
+        }
+        if (total + quantity > max) {
+            return OVER_TOTAL;
+        }
+        return ACCEPTED;
+    }
+
+    public static double sales(int locks, int stocks, int barrels) {
+        double lockSales = locks * LOCK_PRICE;
+        double stockSales = stocks * STOCK_PRICE;
+        double barrelSales = barrels * BARREL_PRICE;
+        return lockSales + stockSales + barrelSales;
+    }
+
+    /** 10% of the first 1000, 15% of the next 800 and 20% of anything above 1800. */
+    public static double commission(double sales) {
+        if (sales > 1800) {
+            return (0.10 * 1000) + (0.15 * 800) + (0.20 * (sales - 1800));
+        } else if (sales > 1000) {
+            return (0.10 * 1000) + (0.15 * (sales - 1000));
+        } else {
+            return 0.10 * sales;
+        }
+    }
+}
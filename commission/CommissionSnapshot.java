@@ -0,0 +1,150 @@
+package commission;
+
+import common.NumberInput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Incremental commission: per-salesperson totals persisted between runs so a
+ * late order only costs the work of applying that order.
+ *
+ * <p>A snapshot is a little-endian binary file: magic {@code "CSNP"},
+ * version, salesperson count, a reserved int, the two rejection counters as
+ * longs, then {@code locks stocks barrels orders} as four ints per
+ * salesperson id. {@link #save} writes a temporary file next to the target
+ * and renames it over the old snapshot with {@code ATOMIC_MOVE}, so a crash
+ * leaves either the old or the new snapshot, never a torn one.
+ */
+public final class CommissionSnapshot {
+
+    public static final int MAGIC = 0x504E5343; // "CSNP" read little-endian
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 32;
+    private static final int INTS_PER_SALESPERSON = 4;
+
+    private CommissionSnapshot() {
+    }
+
+    /** Loads a snapshot, or returns an empty ledger when {@code path} does not exist yet. */
+    public static SalesLedger load(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new SalesLedger();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a commission snapshot");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException(path + " is not a commission snapshot");
+            }
+            int size = buffer.getInt(8);
+            if (size < 0 || size > SalesLedger.MAX_SALESPERSON_ID + 1) {
+                throw new IOException(path + " has an invalid salesperson count: " + size);
+            }
+            if (HEADER_BYTES + (long) size * INTS_PER_SALESPERSON * Integer.BYTES > channel.size()) {
+                throw new IOException(path + " is truncated");
+            }
+            SalesLedger ledger = new SalesLedger(size);
+            ledger.restoreRejections(buffer.getLong(16), buffer.getLong(24));
+            buffer.position(HEADER_BYTES);
+            IntBuffer totals = buffer.asIntBuffer();
+            for (int id = 0, i = 0; id < size; id++, i += INTS_PER_SALESPERSON) {
+                ledger.restore(id, totals.get(i), totals.get(i + 1), totals.get(i + 2), totals.get(i + 3));
+            }
+            return ledger;
+        }
+    }
+
+    /** Atomically replaces the snapshot at {@code path} with the ledger's current totals. */
+    public static void save(SalesLedger ledger, Path path) throws IOException {
+        int size = ledger.size();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + size * INTS_PER_SALESPERSON * Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(0)
+            .putLong(ledger.rejectedOutOfRange()).putLong(ledger.rejectedOverTotal());
+        for (int id = 0; id < size; id++) {
+            buffer.putInt(ledger.locks(id)).putInt(ledger.stocks(id))
+                .putInt(ledger.barrels(id)).putInt(ledger.orders(id));
+        }
+        buffer.flip();
+
+        Path dir = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Applies {@code salesperson locks stocks barrels} delta records to the
+     * ledger and returns the ids they touched.
+     */
+    public static BitSet applyDelta(SalesLedger ledger, NumberInput in) {
+        BitSet affected = new BitSet();
+        while (in.hasNext()) {
+            int salesperson = in.nextInt();
+            int lockCount = in.nextInt();
+            int stockCount = in.nextInt();
+            int barrelCount = in.nextInt();
+            ledger.record(salesperson, lockCount, stockCount, barrelCount);
+            affected.set(salesperson);
+        }
+        return affected;
+    }
+
+    /** Writes report lines, in the {@link SalesLedger#writeReport} format, for the affected ids only. */
+    public static void writeAffected(SalesLedger ledger, BitSet affected, Writer out) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+            line.setLength(0);
+            SalesLedger.appendReportLine(line, id, ledger.locks(id), ledger.stocks(id), ledger.barrels(id));
+            out.append(line);
+        }
+        out.flush();
+    }
+
+    /**
+     * {@code CommissionSnapshot <snapshot>} applies delta orders from stdin,
+     * prints the recomputed lines for the affected salespeople and saves the
+     * updated snapshot.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: CommissionSnapshot <snapshot> < delta.txt");
+            System.exit(2);
+        }
+        Path path = Paths.get(args[0]);
+        SalesLedger ledger = load(path);
+        BitSet affected;
+        try (NumberInput in = NumberInput.stdin()) {
+            affected = applyDelta(ledger, in);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        writeAffected(ledger, affected, out);
+        save(ledger, path);
+    }
+}
@@ -0,0 +1,146 @@
+package commission;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, lock-free counterpart of {@link SalesLedger} for many
+ * producer threads.
+ *
+ * <p>A salesperson's three running totals are packed into one {@code long}
+ * (16 bits each, plus a has-orders flag), so a single compare-and-set
+ * validates and applies a whole order against the 70/80/90 caps atomically:
+ * two racing orders can never both squeeze under a cap. Each salesperson's
+ * word sits on its own 64-byte stripe of the array to avoid false sharing
+ * between cores; rejection counters are {@link LongAdder}s. There is no
+ * global lock, so throughput scales with the number of distinct salespeople
+ * being updated.
+ */
+public final class ConcurrentSalesLedger {
+
+    // Bits of the mask returned by record()
+    public static final int LOCKS_REJECTED = 1;
+    public static final int STOCKS_REJECTED = 2;
+    public static final int BARRELS_REJECTED = 4;
+
+    private static final int STRIDE = 8; // longs per 64-byte cache line
+    private static final int STOCKS_SHIFT = 16;
+    private static final int BARRELS_SHIFT = 32;
+    private static final long FIELD_MASK = 0xFFFF;
+    private static final long HAS_ORDERS = 1L << 63;
+
+    private final int capacity;
+    private final AtomicLongArray totals;
+    private final LongAdder rejectedOutOfRange = new LongAdder();
+    private final LongAdder rejectedOverTotal = new LongAdder();
+
+    /** Ledger for salesperson ids {@code 0 .. salespeople - 1}. */
+    public ConcurrentSalesLedger(int salespeople) {
+        if (salespeople < 1) {
+            throw new IllegalArgumentException("Need at least one salesperson: " + salespeople);
+        }
+        this.capacity = salespeople;
+        this.totals = new AtomicLongArray(Math.multiplyExact(salespeople, STRIDE));
+    }
+
+    /**
+     * Atomically applies one order. Each item is validated against the totals
+     * seen by the winning compare-and-set, exactly as {@link CommissionRules#check}
+     * would sequentially.
+     *
+     * @return a mask of {@link #LOCKS_REJECTED}, {@link #STOCKS_REJECTED} and
+     *         {@link #BARRELS_REJECTED}; 0 when every item was accepted
+     */
+    public int record(int salesperson, int lockCount, int stockCount, int barrelCount) {
+        if (salesperson < 0 || salesperson >= capacity) {
+            throw new IllegalArgumentException("Salesperson id out of range: " + salesperson);
+        }
+        int slot = salesperson * STRIDE;
+        while (true) {
+            long current = totals.get(slot);
+            int locks = (int) (current & FIELD_MASK);
+            int stocks = (int) ((current >>> STOCKS_SHIFT) & FIELD_MASK);
+            int barrels = (int) ((current >>> BARRELS_SHIFT) & FIELD_MASK);
+            int lockCheck = CommissionRules.check(lockCount, locks, CommissionRules.MAX_LOCKS);
+            int stockCheck = CommissionRules.check(stockCount, stocks, CommissionRules.MAX_STOCKS);
+            int barrelCheck = CommissionRules.check(barrelCount, barrels, CommissionRules.MAX_BARRELS);
+            if (lockCheck == CommissionRules.ACCEPTED) {
+                locks += lockCount;
+            }
+            if (stockCheck == CommissionRules.ACCEPTED) {
+                stocks += stockCount;
+            }
+            if (barrelCheck == CommissionRules.ACCEPTED) {
+                barrels += barrelCount;
+            }
+            long next = HAS_ORDERS | locks | ((long) stocks << STOCKS_SHIFT) | ((long) barrels << BARRELS_SHIFT);
+            if (totals.compareAndSet(slot, current, next)) {
+                count(lockCheck);
+                count(stockCheck);
+                count(barrelCheck);
+                return (lockCheck == CommissionRules.ACCEPTED ? 0 : LOCKS_REJECTED)
+                    | (stockCheck == CommissionRules.ACCEPTED ? 0 : STOCKS_REJECTED)
+                    | (barrelCheck == CommissionRules.ACCEPTED ? 0 : BARRELS_REJECTED);
+            }
+        }
+    }
+
+    private void count(int check) {
+        if (check == CommissionRules.OUT_OF_RANGE) {
+            rejectedOutOfRange.increment();
+        } else if (check == CommissionRules.OVER_TOTAL) {
+            rejectedOverTotal.increment();
+        }
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public boolean hasOrders(int salesperson) {
+        return (totals.get(salesperson * STRIDE) & HAS_ORDERS) != 0;
+    }
+
+    public int locks(int salesperson) {
+        return (int) (totals.get(salesperson * STRIDE) & FIELD_MASK);
+    }
+
+    public int stocks(int salesperson) {
+        return (int) ((totals.get(salesperson * STRIDE) >>> STOCKS_SHIFT) & FIELD_MASK);
+    }
+
+    public int barrels(int salesperson) {
+        return (int) ((totals.get(salesperson * STRIDE) >>> BARRELS_SHIFT) & FIELD_MASK);
+    }
+
+    public long rejectedOutOfRange() {
+        return rejectedOutOfRange.sum();
+    }
+
+    public long rejectedOverTotal() {
+        return rejectedOverTotal.sum();
+    }
+
+    /**
+     * Writes the same report as {@link SalesLedger#writeReport}. Each line is a
+     * consistent snapshot of one salesperson; call it once producers are done
+     * for a consistent report across salespeople.
+     */
+    public void writeReport(Writer out) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        for (int id = 0; id < capacity; id++) {
+            long current = totals.get(id * STRIDE);
+            if ((current & HAS_ORDERS) == 0) {
+                continue;
+            }
+            line.setLength(0);
+            SalesLedger.appendReportLine(line, id, (int) (current & FIELD_MASK),
+                (int) ((current >>> STOCKS_SHIFT) & FIELD_MASK),
+                (int) ((current >>> BARRELS_SHIFT) & FIELD_MASK));
+            out.append(line);
+        }
+        out.flush();
+    }
+}
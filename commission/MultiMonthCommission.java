@@ -0,0 +1,172 @@
+package commission;
+
+import common.NumberInput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Commission over many months of order history.
+ *
+ * <p>Caps reset every month, so each (month, salesperson) pair is an
+ * independent partition whose orders must be applied in input order. The
+ * sequential path feeds each month's orders to its own {@link SalesLedger}.
+ * The parallel path sorts order indexes by partition key with
+ * {@link Arrays#parallelSort} (the index in the low bits keeps input order
+ * within a partition), then folds partitions on a {@link ForkJoinPool}. Both
+ * write one line per partition in (month, salesperson) order, so their
+ * output is byte-for-byte identical.
+ */
+public final class MultiMonthCommission {
+
+    private static final int PARTITIONS_PER_TASK = 256;
+
+    private MultiMonthCommission() {
+    }
+
+    /** Writes {@code month salesperson locks stocks barrels sales commission} lines. */
+    public static void writeSequential(OrderColumns orders, Writer out) throws IOException {
+        Map<Integer, SalesLedger> months = new TreeMap<>();
+        for (int i = 0; i < orders.size(); i++) {
+            months.computeIfAbsent(orders.month(i), m -> new SalesLedger())
+                .record(orders.salesperson(i), orders.locks(i), orders.stocks(i), orders.barrels(i));
+        }
+        StringBuilder line = new StringBuilder(64);
+        for (Map.Entry<Integer, SalesLedger> entry : months.entrySet()) {
+            SalesLedger ledger = entry.getValue();
+            for (int id = 0; id < ledger.size(); id++) {
+                if (ledger.hasOrders(id)) {
+                    line.setLength(0);
+                    line.append(entry.getKey()).append(' ');
+                    SalesLedger.appendReportLine(line, id, ledger.locks(id), ledger.stocks(id), ledger.barrels(id));
+                    out.append(line);
+                }
+            }
+        }
+        out.flush();
+    }
+
+    /** Same output as {@link #writeSequential}, computed on {@code pool}. */
+    public static void writeParallel(OrderColumns orders, ForkJoinPool pool, Writer out) throws IOException {
+        int n = orders.size();
+        int maxId = 0;
+        int maxMonth = 0;
+        for (int i = 0; i < n; i++) {
+            // Same id check as the sequential path, so both reject the same input
+            SalesLedger.checkId(orders.salesperson(i));
+            maxId = Math.max(maxId, orders.salesperson(i));
+            maxMonth = Math.max(maxMonth, orders.month(i));
+        }
+        long ids = maxId + 1L;
+        if ((maxMonth + 1L) * ids > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many (month, salesperson) partitions");
+        }
+
+        // Partition key in the high half, input position in the low half
+        long[] sorted = new long[n];
+        for (int i = 0; i < n; i++) {
+            sorted[i] = ((orders.month(i) * ids + orders.salesperson(i)) << 32) | i;
+        }
+        Arrays.parallelSort(sorted);
+
+        int partitions = 0;
+        int[] starts = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            if (i == 0 || (sorted[i] >>> 32) != (sorted[i - 1] >>> 32)) {
+                starts[partitions++] = i;
+            }
+        }
+        starts[partitions] = n;
+
+        int[] locks = new int[partitions];
+        int[] stocks = new int[partitions];
+        int[] barrels = new int[partitions];
+        pool.invoke(new Fold(orders, sorted, starts, 0, partitions, locks, stocks, barrels));
+
+        StringBuilder line = new StringBuilder(64);
+        for (int p = 0; p < partitions; p++) {
+            long key = sorted[starts[p]] >>> 32;
+            line.setLength(0);
+            line.append(key / ids).append(' ');
+            SalesLedger.appendReportLine(line, (int) (key % ids), locks[p], stocks[p], barrels[p]);
+            out.append(line);
+        }
+        out.flush();
+    }
+
+    /** Applies each partition's orders, in input order, to its own totals. */
+    private static final class Fold extends RecursiveAction {
+
+        private final OrderColumns orders;
+        private final long[] sorted;
+        private final int[] starts;
+        private final int from;
+        private final int to;
+        private final int[] locks;
+        private final int[] stocks;
+        private final int[] barrels;
+
+        Fold(OrderColumns orders, long[] sorted, int[] starts, int from, int to,
+             int[] locks, int[] stocks, int[] barrels) {
+            this.orders = orders;
+            this.sorted = sorted;
+            this.starts = starts;
+            this.from = from;
+            this.to = to;
+            this.locks = locks;
+            this.stocks = stocks;
+            this.barrels = barrels;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > PARTITIONS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Fold(orders, sorted, starts, from, mid, locks, stocks, barrels),
+                          new Fold(orders, sorted, starts, mid, to, locks, stocks, barrels));
+                return;
+            }
+            for (int p = from; p < to; p++) {
+                int l = 0;
+                int s = 0;
+                int b = 0;
+                for (int e = starts[p]; e < starts[p + 1]; e++) {
+                    int i = (int) sorted[e];
+                    if (CommissionRules.check(orders.locks(i), l, CommissionRules.MAX_LOCKS) == CommissionRules.ACCEPTED) {
+                        l += orders.locks(i);
+                    }
+                    if (CommissionRules.check(orders.stocks(i), s, CommissionRules.MAX_STOCKS) == CommissionRules.ACCEPTED) {
+                        s += orders.stocks(i);
+                    }
+                    if (CommissionRules.check(orders.barrels(i), b, CommissionRules.MAX_BARRELS) == CommissionRules.ACCEPTED) {
+                        b += orders.barrels(i);
+                    }
+                }
+                locks[p] = l;
+                stocks[p] = s;
+                barrels[p] = b;
+            }
+        }
+    }
+
+    /** Reads {@code month salesperson locks stocks barrels} lines; {@code --parallel} selects the fork/join path. */
+    public static void main(String[] args) throws IOException {
+        OrderColumns orders;
+        try (NumberInput in = NumberInput.stdin()) {
+            orders = OrderColumns.read(in);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        if (Arrays.asList(args).contains("--parallel")) {
+            writeParallel(orders, ForkJoinPool.commonPool(), out);
+        } else {
+            writeSequential(orders, out);
+        }
+    }
+}
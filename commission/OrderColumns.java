@@ -0,0 +1,89 @@
+package commission;
+
+import common.NumberInput;
+import java.util.Arrays;
+
+/**
+ * Order lines stored column by column in primitive arrays, so engines can
+ * scan them in tight loops without one object per record.
+ */
+public final class OrderColumns {
+
+    private int[] month;
+    private int[] salesperson;
+    private int[] locks;
+    private int[] stocks;
+    private int[] barrels;
+    private int size;
+
+    public OrderColumns() {
+        this(1024);
+    }
+
+    public OrderColumns(int capacity) {
+        capacity = Math.max(1, capacity);
+        month = new int[capacity];
+        salesperson = new int[capacity];
+        locks = new int[capacity];
+        stocks = new int[capacity];
+        barrels = new int[capacity];
+    }
+
+    /** Reads {@code month salesperson locks stocks barrels} records until end of input. */
+    public static OrderColumns read(NumberInput in) {
+        OrderColumns orders = new OrderColumns();
+        while (in.hasNext()) {
+            int m = in.nextInt();
+            int id = in.nextInt();
+            int l = in.nextInt();
+            int s = in.nextInt();
+            int b = in.nextInt();
+            orders.add(m, id, l, s, b);
+        }
+        return orders;
+    }
+
+    public void add(int orderMonth, int id, int lockCount, int stockCount, int barrelCount) {
+        if (orderMonth < 0 || id < 0) {
+            throw new IllegalArgumentException("Negative month or salesperson: " + orderMonth + " " + id);
+        }
+        if (size == month.length) {
+            int capacity = size * 2;
+            month = Arrays.copyOf(month, capacity);
+            salesperson = Arrays.copyOf(salesperson, capacity);
+            locks = Arrays.copyOf(locks, capacity);
+            stocks = Arrays.copyOf(stocks, capacity);
+            barrels = Arrays.copyOf(barrels, capacity);
+        }
+        month[size] = orderMonth;
+        salesperson[size] = id;
+        locks[size] = lockCount;
+        stocks[size] = stockCount;
+        barrels[size] = barrelCount;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int month(int i) {
+        return month[i];
+    }
+
+    public int salesperson(int i) {
+        return salesperson[i];
+    }
+
+    public int locks(int i) {
+        return locks[i];
+    }
+
+    public int stocks(int i) {
+        return stocks[i];
+    }
+
+    public int barrels(int i) {
+        return barrels[i];
+    }
+}
@@ -0,0 +1,203 @@
+package commission;
+
+import common.NumberInput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Batch commission engine for a month of order lines.
+ *
+ * <p>Orders are {@code salesperson locks stocks barrels} records; salesperson
+ * ids are small non-negative ints used directly as array indexes, so they are
+ * limited to {@code 0..}{@link #MAX_SALESPERSON_ID}, which caps the totals at
+ * 16 MB. An id outside that range is rejected like a negative one. Running
+ * totals live in primitive per-salesperson arrays and every item quantity
+ * is validated with {@link CommissionRules#check} exactly as the interactive
+ * tool does: a rejected item is skipped, the rest of the order still counts.
+ * One pass over the orders followed by {@link #writeReport} yields commission
+ * for everyone.
+ */
+public final class SalesLedger {
+
+    /** Highest accepted salesperson id. */
+    public static final int MAX_SALESPERSON_ID = (1 << 20) - 1;
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private int[] locks;
+    private int[] stocks;
+    private int[] barrels;
+    private int[] orders;
+    private int size;
+    private long rejectedOutOfRange;
+    private long rejectedOverTotal;
+
+    public SalesLedger() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public SalesLedger(int expectedSalespeople) {
+        int capacity = Math.min(Math.max(1, expectedSalespeople), MAX_SALESPERSON_ID + 1);
+        locks = new int[capacity];
+        stocks = new int[capacity];
+        barrels = new int[capacity];
+        orders = new int[capacity];
+    }
+
+    /** Applies one order line to a salesperson's monthly totals. */
+    public void record(int salesperson, int lockCount, int stockCount, int barrelCount) {
+        checkId(salesperson);
+        ensureCapacity(salesperson + 1);
+        orders[salesperson]++;
+        locks[salesperson] += accept(lockCount, locks[salesperson], CommissionRules.MAX_LOCKS);
+        stocks[salesperson] += accept(stockCount, stocks[salesperson], CommissionRules.MAX_STOCKS);
+        barrels[salesperson] += accept(barrelCount, barrels[salesperson], CommissionRules.MAX_BARRELS);
+    }
+
+    /** Reads {@code salesperson locks stocks barrels} records until end of input. */
+    public void recordAll(NumberInput in) {
+        while (in.hasNext()) {
+            int salesperson = in.nextInt();
+            int lockCount = in.nextInt();
+            int stockCount = in.nextInt();
+            int barrelCount = in.nextInt();
+            record(salesperson, lockCount, stockCount, barrelCount);
+        }
+    }
+
+    /** Sets a salesperson's totals directly, e.g. when loading a {@link CommissionSnapshot}. */
+    void restore(int salesperson, int lockTotal, int stockTotal, int barrelTotal, int orderCount) {
+        checkId(salesperson);
+        ensureCapacity(salesperson + 1);
+        locks[salesperson] = lockTotal;
+        stocks[salesperson] = stockTotal;
+        barrels[salesperson] = barrelTotal;
+        orders[salesperson] = orderCount;
+    }
+
+    void restoreRejections(long outOfRange, long overTotal) {
+        rejectedOutOfRange = outOfRange;
+        rejectedOverTotal = overTotal;
+    }
+
+    static void checkId(int salesperson) {
+        if (salesperson < 0) {
+            throw new IllegalArgumentException("Negative salesperson id: " + salesperson);
+        }
+        if (salesperson > MAX_SALESPERSON_ID) {
+            throw new IllegalArgumentException("Salesperson id above " + MAX_SALESPERSON_ID + ": " + salesperson);
+        }
+    }
+
+    private int accept(int quantity, int total, int max) {
+        switch (CommissionRules.check(quantity, total, max)) {
+            case CommissionRules.OUT_OF_RANGE:
+                rejectedOutOfRange++;
+                return 0;
+            case CommissionRules.OVER_TOTAL:
+                rejectedOverTotal++;
+                return 0;
+            default:
+                return quantity;
+        }
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed > size) {
+            if (needed > locks.length) {
+                int capacity = Math.max(needed, locks.length * 2);
+                locks = Arrays.copyOf(locks, capacity);
+                stocks = Arrays.copyOf(stocks, capacity);
+                barrels = Arrays.copyOf(barrels, capacity);
+                orders = Arrays.copyOf(orders, capacity);
+            }
+            size = needed;
+        }
+    }
+
+    /** One past the highest salesperson id seen. */
+    public int size() {
+        return size;
+    }
+
+    public boolean hasOrders(int salesperson) {
+        return salesperson < size && orders[salesperson] > 0;
+    }
+
+    public int orders(int salesperson) {
+        return salesperson < size ? orders[salesperson] : 0;
+    }
+
+    public int locks(int salesperson) {
+        return salesperson < size ? locks[salesperson] : 0;
+    }
+
+    public int stocks(int salesperson) {
+        return salesperson < size ? stocks[salesperson] : 0;
+    }
+
+    public int barrels(int salesperson) {
+        return salesperson < size ? barrels[salesperson] : 0;
+    }
+
+    public double sales(int salesperson) {
+        return CommissionRules.sales(locks(salesperson), stocks(salesperson), barrels(salesperson));
+    }
+
+    public double commission(int salesperson) {
+        return CommissionRules.commission(sales(salesperson));
+    }
+
+    /** Item quantities rejected for lying outside 1..cap. */
+    public long rejectedOutOfRange() {
+        return rejectedOutOfRange;
+    }
+
+    /** Item quantities rejected for pushing a monthly total past its cap. */
+    public long rejectedOverTotal() {
+        return rejectedOverTotal;
+    }
+
+    /**
+     * Writes {@code salesperson locks stocks barrels sales commission} for
+     * every salesperson with at least one order, in id order.
+     */
+    public void writeReport(Writer out) throws IOException {
+        StringBuilder line = new StringBuilder(64);
+        for (int id = 0; id < size; id++) {
+            if (orders[id] == 0) {
+                continue;
+            }
+            line.setLength(0);
+            appendReportLine(line, id, locks[id], stocks[id], barrels[id]);
+            out.append(line);
+        }
+        out.flush();
+    }
+
+    /** Appends {@code salesperson locks stocks barrels sales commission} and a newline. */
+    static void appendReportLine(StringBuilder line, int salesperson, int locks, int stocks, int barrels) {
+        double sales = CommissionRules.sales(locks, stocks, barrels);
+        line.append(salesperson).append(' ')
+            .append(locks).append(' ')
+            .append(stocks).append(' ')
+            .append(barrels).append(' ')
+            .append(sales).append(' ')
+            .append(CommissionRules.commission(sales)).append('\n');
+    }
+
+    public static void main(String[] args) throws IOException {
+        SalesLedger ledger = new SalesLedger();
+        try (NumberInput in = NumberInput.stdin()) {
+            ledger.recordAll(in);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        ledger.writeReport(out);
+        System.err.println("Rejected items: " + ledger.rejectedOutOfRange() + " out of range, "
+            + ledger.rejectedOverTotal() + " over the monthly total");
+    }
+}
@@ -0,0 +1,38 @@
+package common;
+
+import java.io.Closeable;
+import java.util.Scanner;
+
+/**
+ * Source of whitespace-separated numbers for the console tools.
+ *
+ * <p>{@link #stdin()} keeps {@link Scanner} when a person is typing at a
+ * terminal and switches to the allocation-free {@link NumberTokenizer} when
+ * input is piped or redirected. Both throw the same exceptions as
+ * {@code Scanner}: {@link java.util.NoSuchElementException} at end of input and
+ * {@link java.util.InputMismatchException} for a malformed token.
+ */
+public interface NumberInput extends Closeable {
+
+    boolean hasNext();
+
+    int nextInt();
+
+    long nextLong();
+
+    float nextFloat();
+
+    double nextDouble();
+
+    @Override
+    void close();
+
+    /** Whether stdin is attached to a terminal. */
+    static boolean isInteractive() {
+        return System.console() != null;
+    }
+
+    static NumberInput stdin() {
+        return isInteractive() ? new ScannerInput(new Scanner(System.in)) : new NumberTokenizer(System.in);
+    }
+}
@@ -0,0 +1,255 @@
+package common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * Byte-level number parser over a large read buffer.
+ *
+ * <p>Each token is copied into a reusable char array and parsed in place, so
+ * {@link #nextInt()} and {@link #nextLong()} never allocate. {@link #nextDouble()}
+ * and {@link #nextFloat()} use the exact fast path (mantissa and power of ten
+ * both exactly representable) for ordinary decimal input and only fall back to
+ * {@link Double#parseDouble} for long mantissas, large exponents, {@code NaN}
+ * and {@code Infinity}. Input is ASCII; any byte at or below {@code ' '}
+ * separates tokens. A malformed token is consumed before the exception is thrown.
+ */
+public final class NumberTokenizer implements NumberInput {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final double[] DOUBLE_POW10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POW10 = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+    };
+
+    private final InputStream in;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private char[] token = new char[64];
+    private int length;
+    // Sign and power of ten of the last parseDecimal() call
+    private boolean negative;
+    private int exponent;
+
+    public NumberTokenizer(InputStream in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NumberTokenizer(InputStream in, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.in = in;
+        this.buffer = new byte[bufferSize];
+    }
+
+    @Override
+    public boolean hasNext() {
+        return skipWhitespace();
+    }
+
+    @Override
+    public int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw mismatch();
+        }
+        return (int) value;
+    }
+
+    @Override
+    public long nextLong() {
+        readToken();
+        int i = 0;
+        boolean negative = false;
+        if (token[0] == '-' || token[0] == '+') {
+            negative = token[0] == '-';
+            i++;
+        }
+        if (i == length) {
+            throw mismatch();
+        }
+        // Accumulate negatively so Long.MIN_VALUE parses without overflow
+        long result = 0;
+        for (; i < length; i++) {
+            int digit = token[i] - '0';
+            if (digit < 0 || digit > 9 || result < (Long.MIN_VALUE + digit) / 10) {
+                throw mismatch();
+            }
+            result = result * 10 - digit;
+        }
+        if (!negative) {
+            if (result == Long.MIN_VALUE) {
+                throw mismatch();
+            }
+            result = -result;
+        }
+        return result;
+    }
+
+    @Override
+    public double nextDouble() {
+        readToken();
+        long mantissa = parseDecimal();
+        if (mantissa >= 0 && mantissa < (1L << 53) && Math.abs(exponent) < DOUBLE_POW10.length) {
+            double value = exponent >= 0 ? mantissa * DOUBLE_POW10[exponent] : mantissa / DOUBLE_POW10[-exponent];
+            return negative ? -value : value;
+        }
+        return slowDouble();
+    }
+
+    @Override
+    public float nextFloat() {
+        readToken();
+        long mantissa = parseDecimal();
+        if (mantissa >= 0 && mantissa < (1L << 24) && Math.abs(exponent) < FLOAT_POW10.length) {
+            float value = exponent >= 0 ? mantissa * FLOAT_POW10[exponent] : mantissa / FLOAT_POW10[-exponent];
+            return negative ? -value : value;
+        }
+        try {
+            return Float.parseFloat(new String(token, 0, length));
+        } catch (NumberFormatException e) {
+            throw mismatch();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Splits the current token into sign, integer mantissa and power of ten.
+     * Returns -1 when the token needs the slow path (too many digits, a huge
+     * exponent, or something other than plain decimal notation).
+     */
+    private long parseDecimal() {
+        int i = 0;
+        negative = false;
+        exponent = 0;
+        if (token[0] == '-' || token[0] == '+') {
+            negative = token[0] == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        boolean seenDigit = false;
+        boolean seenPoint = false;
+        for (; i < length; i++) {
+            char c = token[i];
+            if (c >= '0' && c <= '9') {
+                seenDigit = true;
+                if (mantissa == 0 && c == '0') {
+                    if (seenPoint) {
+                        exponent--;
+                    }
+                    continue;
+                }
+                if (++digits > 18) {
+                    return -1;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (seenPoint) {
+                    exponent--;
+                }
+            } else if (c == '.' && !seenPoint) {
+                seenPoint = true;
+            } else if ((c == 'e' || c == 'E') && seenDigit) {
+                return parseExponent(i + 1) ? mantissa : -1;
+            } else {
+                return -1;
+            }
+        }
+        return seenDigit ? mantissa : -1;
+    }
+
+    private boolean parseExponent(int i) {
+        boolean minus = false;
+        if (i < length && (token[i] == '-' || token[i] == '+')) {
+            minus = token[i] == '-';
+            i++;
+        }
+        if (i == length || length - i > 4) {
+            return false;
+        }
+        int value = 0;
+        for (; i < length; i++) {
+            int digit = token[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            value = value * 10 + digit;
+        }
+        exponent += minus ? -value : value;
+        return true;
+    }
+
+    private double slowDouble() {
+        try {
+            return Double.parseDouble(new String(token, 0, length));
+        } catch (NumberFormatException e) {
+            throw mismatch();
+        }
+    }
+
+    private InputMismatchException mismatch() {
+        return new InputMismatchException("For input string: \"" + new String(token, 0, length) + "\"");
+    }
+
+    private void readToken() {
+        if (!skipWhitespace()) {
+            throw new NoSuchElementException();
+        }
+        length = 0;
+        while (position < limit || fill()) {
+            byte b = buffer[position];
+            if (b <= ' ' && b >= 0) {
+                break;
+            }
+            if (length == token.length) {
+                token = Arrays.copyOf(token, length * 2);
+            }
+            token[length++] = (char) (b & 0xFF);
+            position++;
+        }
+    }
+
+    /** Advances past separators; returns false at end of input. */
+    private boolean skipWhitespace() {
+        while (position < limit || fill()) {
+            byte b = buffer[position];
+            if (b > ' ' || b < 0) {
+                return true;
+            }
+            position++;
+        }
+        return false;
+    }
+
+    private boolean fill() {
+        try {
+            int n;
+            do {
+                n = in.read(buffer, 0, buffer.length);
+            } while (n == 0);
+            position = 0;
+            limit = Math.max(n, 0);
+            return n > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
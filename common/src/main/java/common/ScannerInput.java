@@ -0,0 +1,43 @@
+package common;
+
+import java.util.Scanner;
+
+/** {@link NumberInput} over a {@link Scanner}, used for interactive sessions. */
+public final class ScannerInput implements NumberInput {
+
+    private final Scanner scanner;
+
+    public ScannerInput(Scanner scanner) {
+        this.scanner = scanner;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return scanner.hasNext();
+    }
+
+    @Override
+    public int nextInt() {
+        return scanner.nextInt();
+    }
+
+    @Override
+    public long nextLong() {
+        return scanner.nextLong();
+    }
+
+    @Override
+    public float nextFloat() {
+        return scanner.nextFloat();
+    }
+
+    @Override
+    public double nextDouble() {
+        return scanner.nextDouble();
+    }
+
+    @Override
+    public void close() {
+        scanner.close();
+    }
+}
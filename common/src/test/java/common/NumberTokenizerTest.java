@@ -0,0 +1,101 @@
+package common;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class NumberTokenizerTest {
+
+    private static NumberTokenizer tokenizer(String input, int bufferSize) {
+        return new NumberTokenizer(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)), bufferSize);
+    }
+
+    @Nested
+    @DisplayName("Integer Tests")
+    class IntegerTests {
+        @Test
+        @DisplayName("Parsing ints across buffer boundaries")
+        void testInts() {
+            NumberTokenizer in = tokenizer("  12 -7\n\t+3\r\n2147483647 -2147483648 ", 3);
+            assertEquals(12, in.nextInt());
+            assertEquals(-7, in.nextInt());
+            assertEquals(3, in.nextInt());
+            assertEquals(Integer.MAX_VALUE, in.nextInt());
+            assertEquals(Integer.MIN_VALUE, in.nextInt());
+            assertFalse(in.hasNext());
+            assertThrows(NoSuchElementException.class, in::nextInt);
+        }
+
+        @Test
+        @DisplayName("Long extremes and overflow")
+        void testLongs() {
+            NumberTokenizer in = tokenizer("9223372036854775807 -9223372036854775808 9223372036854775808 2147483648", 8);
+            assertEquals(Long.MAX_VALUE, in.nextLong());
+            assertEquals(Long.MIN_VALUE, in.nextLong());
+            assertThrows(InputMismatchException.class, in::nextLong);
+            assertThrows(InputMismatchException.class, in::nextInt);
+        }
+
+        @Test
+        @DisplayName("Malformed tokens are rejected")
+        void testMalformed() {
+            NumberTokenizer in = tokenizer("12a - 1.5 7", 16);
+            assertThrows(InputMismatchException.class, in::nextInt);
+            assertThrows(InputMismatchException.class, in::nextInt);
+            assertThrows(InputMismatchException.class, in::nextInt);
+            assertEquals(7, in.nextInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("Floating-Point Tests")
+    class FloatingPointTests {
+        @Test
+        @DisplayName("Matches Double.parseDouble on fast and slow paths")
+        void testDoubles() {
+            String[] tokens = {"0", "-0", "1.5", "0.05", "-123.456", "1e10", "2.5E-3", "123456789012345678901",
+                "0.1234567890123456789", "1e300", "4.9e-324", "NaN", "Infinity", "-Infinity", ".5", "7."};
+            NumberTokenizer in = tokenizer(String.join(" ", tokens), 5);
+            for (String token : tokens) {
+                assertEquals(Double.parseDouble(token), in.nextDouble(), token);
+            }
+            assertThrows(InputMismatchException.class, () -> tokenizer("1e", 4).nextDouble());
+        }
+
+        @Test
+        @DisplayName("Random decimals round exactly like the JDK")
+        void testRandomDoubles() {
+            Random random = new Random(1);
+            StringBuilder input = new StringBuilder();
+            String[] tokens = new String[2000];
+            for (int i = 0; i < tokens.length; i++) {
+                tokens[i] = String.valueOf(random.nextInt(2_000_000) / Math.pow(10, random.nextInt(8)));
+                input.append(tokens[i]).append('\n');
+            }
+            NumberTokenizer doubles = tokenizer(input.toString(), 1 << 10);
+            NumberTokenizer floats = tokenizer(input.toString(), 1 << 10);
+            for (String token : tokens) {
+                assertEquals(Double.parseDouble(token), doubles.nextDouble(), token);
+                assertEquals(Float.parseFloat(token), floats.nextFloat(), token);
+            }
+        }
+
+        @Test
+        @DisplayName("Parsing floats")
+        void testFloats() {
+            NumberTokenizer floats = tokenizer("0.1 3.25 -16777216 1e-3", 64);
+            assertEquals(0.1f, floats.nextFloat());
+            assertEquals(3.25f, floats.nextFloat());
+            assertEquals(-16777216f, floats.nextFloat());
+            assertEquals(1e-3f, floats.nextFloat());
+        }
+    }
+}
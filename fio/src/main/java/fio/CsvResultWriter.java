@@ -0,0 +1,39 @@
+package fio;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes {@code Name,Roll No,Marks,Result} lines through a buffered writer, so
+ * memory stays constant whatever the row count.
+ */
+final class CsvResultWriter implements ResultWriter {
+
+    private final BufferedWriter out;
+
+    CsvResultWriter(Path file) throws IOException {
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write("Name,Roll No,Marks,Result");
+        out.newLine();
+    }
+
+    @Override
+    public void write(Student student) throws IOException {
+        out.write(StudentRows.CsvFields.quote(student.getName()));
+        out.write(',');
+        out.write(Integer.toString(student.getRollNo()));
+        out.write(',');
+        out.write(Integer.toString(student.getMarks()));
+        out.write(',');
+        out.write(student.getResult());
+        out.newLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
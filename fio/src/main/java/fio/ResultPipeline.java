@@ -0,0 +1,51 @@
+package fio;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams students from an input sheet to a result sheet, adding the Pass/Fail
+ * column on the way. Rows move one at a time and are never collected into a list.
+ * Memory stays constant only with CSV on both sides; JXL holds a whole {@code .xls}
+ * input or output in memory, so use CSV for large files.
+ *
+ * <pre>
+ * java fio.ResultPipeline Students.xls Result.xls
+ * java fio.ResultPipeline Students.csv Result.csv
+ * </pre>
+ */
+public final class ResultPipeline {
+
+    private ResultPipeline() {
+    }
+
+    /** Writes every student to {@code out} and returns how many were written. */
+    public static long run(Stream<Student> students, ResultWriter out) throws IOException {
+        long count = 0;
+        for (Iterator<Student> it = students.iterator(); it.hasNext(); ) {
+            out.write(it.next());
+            count++;
+        }
+        return count;
+    }
+
+    /** Reads {@code input} and writes {@code output}, each as CSV or {@code .xls} by extension. */
+    public static long run(Path input, Path output) throws IOException {
+        try (Stream<Student> students = StudentRows.from(input);
+             ResultWriter out = ResultWriter.to(output)) {
+            return run(students, out);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: ResultPipeline <students.xls|students.csv> <result.xls|result.csv>");
+            System.exit(2);
+        }
+        long count = run(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(count + " records written to " + args[1]);
+    }
+}
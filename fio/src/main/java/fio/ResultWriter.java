@@ -0,0 +1,27 @@
+package fio;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Sink for students with their Pass/Fail result, written one row at a time.
+ * The output is complete only after {@link #close()}.
+ */
+public interface ResultWriter extends Closeable {
+
+    void write(Student student) throws IOException;
+
+    static ResultWriter xls(Path file) throws IOException {
+        return new XlsResultWriter(file);
+    }
+
+    static ResultWriter csv(Path file) throws IOException {
+        return new CsvResultWriter(file);
+    }
+
+    /** Picks {@link #csv} for a {@code .csv} file and {@link #xls} otherwise. */
+    static ResultWriter to(Path file) throws IOException {
+        return StudentRows.isCsv(file) ? csv(file) : xls(file);
+    }
+}
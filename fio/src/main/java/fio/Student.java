@@ -0,0 +1,49 @@
+package fio;
+
+/**
+ * One row of a student sheet: name, roll number and marks.
+ */
+public final class Student {
+
+    /** Marks strictly above this pass. */
+    public static final int PASS_MARK = 35;
+
+    private final String name;
+    private final int rollNo;
+    private final int marks;
+
+    public Student(String name, int rollNo, int marks) {
+        if (name == null) {
+            throw new IllegalArgumentException("Name must not be null");
+        }
+        this.name = name;
+        this.rollNo = rollNo;
+        this.marks = marks;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRollNo() {
+        return rollNo;
+    }
+
+    public int getMarks() {
+        return marks;
+    }
+
+    public boolean isPass() {
+        return marks > PASS_MARK;
+    }
+
+    /** "Pass" or "Fail", as written to the Result column. */
+    public String getResult() {
+        return isPass() ? "Pass" : "Fail";
+    }
+
+    @Override
+    public String toString() {
+        return name + "," + rollNo + "," + marks;
+    }
+}
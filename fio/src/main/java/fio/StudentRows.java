@@ -0,0 +1,254 @@
+package fio;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import jxl.Cell;
+import jxl.CellType;
+import jxl.NumberCell;
+import jxl.Sheet;
+import jxl.Workbook;
+import jxl.WorkbookSettings;
+import jxl.read.biff.BiffException;
+
+/**
+ * Lazy streams of {@link Student} rows read from an {@code .xls} workbook or a CSV file.
+ *
+ * <p>Every sheet is expected to start with a header row followed by
+ * {@code Name, Roll No, Marks} rows; extra columns are ignored and empty rows are
+ * skipped. Rows are parsed only as the stream is consumed. Close the stream to
+ * release the file.
+ *
+ * <p>{@code .xls} memory is not bounded. JXL has no streaming reader:
+ * {@code Workbook.getWorkbook} reads the whole file onto the heap, where it stays
+ * until the stream is closed, so memory grows with the file. Sheets are parsed
+ * the first time they are requested, in order, and JXL drops the cells of the
+ * previous sheet when the next one is opened. That saves cell objects but does not
+ * cap the total. CSV input is read line by line in constant memory; use it for
+ * large files.
+ */
+public final class StudentRows {
+
+    private StudentRows() {
+    }
+
+    public static Stream<Student> fromXls(Path file) throws IOException {
+        WorkbookSettings settings = new WorkbookSettings();
+        // JXL otherwise calls System.gc() every time it moves to another sheet
+        settings.setGCDisabled(true);
+        settings.setDrawingsDisabled(true);
+        settings.setSuppressWarnings(true);
+        Workbook workbook;
+        try {
+            workbook = Workbook.getWorkbook(file.toFile(), settings);
+        } catch (BiffException e) {
+            throw new IOException(file + " is not a readable .xls workbook", e);
+        }
+        return stream(new SheetRows(workbook)).onClose(workbook::close);
+    }
+
+    public static Stream<Student> fromCsv(Path file) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return stream(new CsvRows(reader)).onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** Picks {@link #fromCsv} for a {@code .csv} file and {@link #fromXls} otherwise. */
+    public static Stream<Student> from(Path file) throws IOException {
+        return isCsv(file) ? fromCsv(file) : fromXls(file);
+    }
+
+    static boolean isCsv(Path file) {
+        return file.getFileName().toString().toLowerCase().endsWith(".csv");
+    }
+
+    private static Stream<Student> stream(Iterator<Student> rows) {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    // Callers prefix the row's location to the NumberFormatException message
+    private static int toInt(Cell cell) {
+        if (cell.getType() == CellType.NUMBER) {
+            double value = ((NumberCell) cell).getValue();
+            int whole = (int) value;
+            // Also false for NaN and for values the cast clamped to the int range
+            if (whole == value) {
+                return whole;
+            }
+            throw notWholeNumber(cell.getContents());
+        }
+        return toInt(cell.getContents());
+    }
+
+    private static int toInt(String text) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw notWholeNumber(text);
+        }
+    }
+
+    private static NumberFormatException notWholeNumber(String text) {
+        return new NumberFormatException("\"" + text + "\" is not a whole number");
+    }
+
+    private static final class SheetRows implements Iterator<Student> {
+        private final Workbook workbook;
+        private int sheetIndex = -1;
+        private Sheet sheet;
+        private Cell[] cells;
+        private int row;
+        private int rows;
+
+        SheetRows(Workbook workbook) {
+            this.workbook = workbook;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (cells == null) {
+                if (row >= rows) {
+                    if (++sheetIndex >= workbook.getNumberOfSheets()) {
+                        return false;
+                    }
+                    sheet = workbook.getSheet(sheetIndex);
+                    rows = sheet.getRows();
+                    row = 1;
+                    continue;
+                }
+                Cell[] next = sheet.getRow(row++);
+                if (next.length > 0 && !next[0].getContents().isEmpty()) {
+                    cells = next;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Student next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Cell[] current = cells;
+            cells = null;
+            if (current.length < 3) {
+                throw new IllegalArgumentException(where() + ": expected Name, Roll No and Marks");
+            }
+            try {
+                return new Student(current[0].getContents(), toInt(current[1]), toInt(current[2]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(where() + ": " + e.getMessage());
+            }
+        }
+
+        // Only built for error messages; row is now the 1-based number of the current row
+        private String where() {
+            return "Sheet " + sheet.getName() + " row " + row;
+        }
+    }
+
+    private static final class CsvRows implements Iterator<Student> {
+        private final BufferedReader reader;
+        private String line;
+        private int lineNumber;
+
+        CsvRows(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (line == null) {
+                    String next = reader.readLine();
+                    if (next == null) {
+                        return false;
+                    }
+                    // Line 1 is the header
+                    if (++lineNumber > 1 && !next.isEmpty()) {
+                        line = next;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Student next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<String> fields = CsvFields.split(line);
+            line = null;
+            if (fields.size() < 3) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected Name, Roll No and Marks");
+            }
+            try {
+                return new Student(fields.get(0), toInt(fields.get(1)), toInt(fields.get(2)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /** Minimal RFC 4180 field handling for single-line records. */
+    static final class CsvFields {
+
+        private CsvFields() {
+        }
+
+        static List<String> split(String line) {
+            List<String> fields = new ArrayList<>(4);
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        static String quote(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package fio;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import jxl.Workbook;
+import jxl.WorkbookSettings;
+import jxl.write.Label;
+import jxl.write.Number;
+import jxl.write.WritableSheet;
+import jxl.write.WritableWorkbook;
+import jxl.write.WriteException;
+
+/**
+ * Writes {@code Name, Roll No, Marks, Result} rows to an {@code .xls} workbook.
+ *
+ * <p>An {@code .xls} sheet holds at most 65,536 rows, so when a sheet is full the
+ * writer starts another one ({@code ResultSheet}, {@code ResultSheet 2}, ...) with its
+ * own header row. Memory is not bounded: JXL has no streaming writer, and the
+ * {@code WritableWorkbook} keeps every cell of every sheet on the heap until
+ * {@link #close()}, so it grows with the row count. The temporary file only avoids a
+ * second, serialised copy of the workbook in memory. Write large results as CSV.
+ * Roll numbers and marks are stored as number cells, and every "Pass" and "Fail"
+ * label points to one shared string.
+ */
+final class XlsResultWriter implements ResultWriter {
+
+    /** Rows per sheet in the BIFF8 format, header included. */
+    static final int MAX_ROWS = 65536;
+
+    private final WritableWorkbook workbook;
+    private WritableSheet sheet;
+    private int sheets;
+    private int row;
+
+    XlsResultWriter(Path file) throws IOException {
+        WorkbookSettings settings = new WorkbookSettings();
+        settings.setUseTemporaryFileDuringWrite(true);
+        settings.setGCDisabled(true);
+        workbook = Workbook.createWorkbook(file.toFile(), settings);
+    }
+
+    @Override
+    public void write(Student student) throws IOException {
+        if (sheet == null || row == MAX_ROWS) {
+            nextSheet();
+        }
+        try {
+            sheet.addCell(new Label(0, row, student.getName()));
+            sheet.addCell(new Number(1, row, student.getRollNo()));
+            sheet.addCell(new Number(2, row, student.getMarks()));
+            sheet.addCell(new Label(3, row, student.getResult()));
+        } catch (WriteException e) {
+            throw new IOException("Cannot write row " + row + " of " + sheet.getName(), e);
+        }
+        row++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (sheet == null) {
+            // An empty input still gets a sheet with the header row
+            nextSheet();
+        }
+        workbook.write();
+        try {
+            workbook.close();
+        } catch (WriteException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void nextSheet() throws IOException {
+        String name = sheets == 0 ? "ResultSheet" : "ResultSheet " + (sheets + 1);
+        sheet = workbook.createSheet(name, sheets++);
+        try {
+            sheet.addCell(new Label(0, 0, "Name"));
+            sheet.addCell(new Label(1, 0, "Roll No"));
+            sheet.addCell(new Label(2, 0, "Marks"));
+            sheet.addCell(new Label(3, 0, "Result"));
+        } catch (WriteException e) {
+            throw new IOException("Cannot write the header of " + name, e);
+        }
+        row = 1;
+    }
+}
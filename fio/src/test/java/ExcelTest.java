@@ -1,12 +1,18 @@
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import fio.ResultPipeline;
+import fio.Student;
+import fio.StudentRows;
 import jxl.Sheet;
 import jxl.Workbook;
 import jxl.write.Label;
 import jxl.write.Number;
 import jxl.write.WritableSheet;
 import jxl.write.WritableWorkbook;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
@@ -51,41 +57,22 @@ System.out.println("Sample file created successfully!");
 }
 @Test
 public void testImportExport() throws Exception {
-// Open the input Excel file
-FileInputStream fi = new FileInputStream(INPUT_FILE);
-Workbook workbook = Workbook.getWorkbook(fi);
-Sheet sheet = workbook.getSheet(0);
-// Prepare output Excel file
-FileOutputStream fo = new FileOutputStream(OUTPUT_FILE);
-WritableWorkbook writableWorkbook = Workbook.createWorkbook(fo);
-WritableSheet writableSheet = writableWorkbook.createSheet("ResultSheet", 0);
-// Copy data from input to output
-for (int i = 0; i < sheet.getRows(); i++) {
-for (int j = 0; j < sheet.getColumns(); j++) {
-String cellValue = sheet.getCell(j,
-i).getContents(); Label label = new
-Label(j, i, cellValue);
-writableSheet.addCell(label);
+// Stream the students row by row into Result.xls, adding the Pass/Fail column
+long count = ResultPipeline.run(Paths.get(INPUT_FILE), Paths.get(OUTPUT_FILE));
+// Check every result row against its marks
+Workbook result = Workbook.getWorkbook(new File(OUTPUT_FILE));
+Sheet sheet = result.getSheet(0);
+Assert.assertEquals(sheet.getRows(), count + 1);
+Assert.assertEquals(sheet.getCell(3, 0).getContents(), "Result");
+try (Stream<Student> students = StudentRows.fromXls(Paths.get(INPUT_FILE))) {
+int i = 1;
+for (Iterator<Student> it = students.iterator(); it.hasNext(); i++) {
+Student student = it.next();
+Assert.assertEquals(sheet.getCell(0, i).getContents(), student.getName());
+Assert.assertEquals(sheet.getCell(3, i).getContents(), student.getMarks() > 35 ? "Pass" : "Fail");
 }
 }
-// Add Result column header
-Label header = new Label(sheet.getColumns(), 0, "Result");
-writableSheet.addCell(header);
-// Process student marks and update result
-for (int i = 1; i < sheet.getRows(); i++) {
-// Assuming marks are in the 3rd column (index 2)
-String markStr = sheet.getCell(2, i).getContents();
-int marks = Integer.parseInt(markStr);
-String result = (marks > 35) ? "Pass" : "Fail";
-Label resultLabel = new Label(sheet.getColumns(), i, result);
-writableSheet.addCell(resultLabel);
-}
-// Save the output file
-writableWorkbook.write();
-writableWorkbook.close();
-workbook.close();
-fi.close();
-fo.close();
+result.close();
 System.out.println(" Records successfully updated in " + OUTPUT_FILE);
 }
-}
\ No newline at end of file
+}
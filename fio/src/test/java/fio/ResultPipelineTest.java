@@ -0,0 +1,156 @@
+package fio;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import jxl.Workbook;
+import jxl.write.Label;
+import jxl.write.Number;
+import jxl.write.WritableSheet;
+import jxl.write.WritableWorkbook;
+import jxl.write.WriteException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class ResultPipelineTest {
+
+    private static final Path STUDENTS_CSV = Paths.get("src/test/resources/excel/Students.csv");
+
+    private Path dir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("fio");
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void csvToCsvAddsResultColumn() throws IOException {
+        Path out = dir.resolve("Result.csv");
+        Assert.assertEquals(ResultPipeline.run(STUDENTS_CSV, out), 5);
+        Assert.assertEquals(Files.readAllLines(out), Arrays.asList(
+            "Name,Roll No,Marks,Result",
+            "John,101,45,Pass",
+            "Jane,102,32,Fail",
+            "Bob,103,67,Pass",
+            "Alice,104,28,Fail",
+            "Charlie,105,89,Pass"));
+    }
+
+    @Test
+    public void passMarkIsExclusive() {
+        Assert.assertEquals(new Student("A", 1, 35).getResult(), "Fail");
+        Assert.assertEquals(new Student("B", 2, 36).getResult(), "Pass");
+    }
+
+    @Test
+    public void csvQuotingRoundTrips() throws IOException {
+        Path out = dir.resolve("quoted.csv");
+        try (ResultWriter writer = ResultWriter.csv(out)) {
+            writer.write(new Student("Doe, \"JJ\"", 7, 50));
+        }
+        try (Stream<Student> rows = StudentRows.fromCsv(out)) {
+            Student student = rows.findFirst().get();
+            Assert.assertEquals(student.getName(), "Doe, \"JJ\"");
+            Assert.assertEquals(student.getMarks(), 50);
+        }
+    }
+
+    @Test
+    public void xlsRollsOverToNewSheetsAndStreamsBack() throws IOException {
+        int total = XlsResultWriter.MAX_ROWS * 2 + 10;
+        Path out = dir.resolve("large.xls");
+        try (ResultWriter writer = ResultWriter.xls(out)) {
+            long written = ResultPipeline.run(
+                LongStream.range(0, total).mapToObj(i -> new Student("S" + i, (int) i, (int) (i % 101))), writer);
+            Assert.assertEquals(written, total);
+        }
+
+        Workbook workbook = readWorkbook(out);
+        Assert.assertEquals(workbook.getNumberOfSheets(), 3);
+        Assert.assertEquals(workbook.getSheet(1).getName(), "ResultSheet 2");
+        Assert.assertEquals(workbook.getSheet(2).getRows(), total - 2 * (XlsResultWriter.MAX_ROWS - 1) + 1);
+        workbook.close();
+
+        try (Stream<Student> rows = StudentRows.fromXls(out)) {
+            long[] seen = {0};
+            rows.forEach(student -> {
+                Assert.assertEquals(student.getRollNo(), seen[0]);
+                Assert.assertEquals(student.getMarks(), seen[0] % 101);
+                seen[0]++;
+            });
+            Assert.assertEquals(seen[0], total);
+        }
+    }
+
+    @Test
+    public void readsTheSampleWorkbook() throws IOException {
+        Path xls = dir.resolve("Students.xls");
+        ResultPipeline.run(STUDENTS_CSV, xls);
+        try (Stream<Student> rows = StudentRows.fromXls(xls)) {
+            List<String> passed = rows.filter(Student::isPass).map(Student::getName).collect(Collectors.toList());
+            Assert.assertEquals(passed, Arrays.asList("John", "Bob", "Charlie"));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class,
+          expectedExceptionsMessageRegExp = "Line 2: \"x\" is not a whole number")
+    public void badMarksNameTheLine() throws IOException {
+        Path in = dir.resolve("bad.csv");
+        Files.write(in, Arrays.asList("Name,Roll No,Marks", "Ann,1,x"));
+        try (Stream<Student> rows = StudentRows.fromCsv(in)) {
+            rows.count();
+        }
+    }
+
+    @Test
+    public void fractionalOrOutOfRangeNumericMarksAreRejected() throws IOException, WriteException {
+        for (double marks : new double[] {35.9, 3e9, -3e9}) {
+            Path in = dir.resolve("numeric.xls");
+            WritableWorkbook workbook = Workbook.createWorkbook(in.toFile());
+            WritableSheet sheet = workbook.createSheet("Marks", 0);
+            sheet.addCell(new Label(0, 0, "Name"));
+            sheet.addCell(new Label(1, 0, "Roll No"));
+            sheet.addCell(new Label(2, 0, "Marks"));
+            sheet.addCell(new Label(0, 1, "Ann"));
+            sheet.addCell(new Number(1, 1, 1));
+            sheet.addCell(new Number(2, 1, 40));
+            sheet.addCell(new Label(0, 2, "Bob"));
+            sheet.addCell(new Number(1, 2, 2));
+            sheet.addCell(new Number(2, 2, marks));
+            workbook.write();
+            workbook.close();
+
+            try (Stream<Student> rows = StudentRows.fromXls(in)) {
+                IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class, rows::count);
+                Assert.assertTrue(e.getMessage().matches("Sheet Marks row 3: \".*\" is not a whole number"),
+                    marks + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static Workbook readWorkbook(Path file) throws IOException {
+        try {
+            return Workbook.getWorkbook(file.toFile());
+        } catch (jxl.read.biff.BiffException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package matrixmul.bench;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs {@link MultiplyBenchmark} with the GC profiler and prints a comparison
+ * table with throughput, speed-up over {@code naive} and allocation rate for
+ * every point of the grid.
+ *
+ * <p>Regression gate, driven by system properties:
+ * <ul>
+ *   <li>{@code -Dbench.save=FILE} writes the scores as a CSV baseline</li>
+ *   <li>{@code -Dbench.baseline=FILE} compares against a saved baseline and
+ *       exits with status 1 if any score dropped by more than
+ *       {@code -Dbench.tolerance} (default 0.10)</li>
+ * </ul>
+ * All other arguments are passed to JMH unchanged.
+ */
+public class BenchmarkRunner {
+
+    private static final String CSV_HEADER = "size,density,strategy,ops_per_s";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cmd);
+        if (cmd.getIncludes().isEmpty()) {
+            builder.include(MultiplyBenchmark.class.getSimpleName());
+        }
+        Options options = builder.addProfiler(GCProfiler.class).build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        List<Row> rows = new ArrayList<>();
+        for (RunResult result : results) {
+            rows.add(Row.of(result));
+        }
+        printTable(rows);
+
+        String save = System.getProperty("bench.save");
+        if (save != null) {
+            writeBaseline(Paths.get(save), rows);
+        }
+        String baseline = System.getProperty("bench.baseline");
+        if (baseline != null) {
+            double tolerance = Double.parseDouble(System.getProperty("bench.tolerance", "0.10"));
+            if (!checkBaseline(Paths.get(baseline), rows, tolerance)) {
+                System.exit(1);
+            }
+        }
+    }
+
+    private static void printTable(List<Row> rows) {
+        Map<String, Double> naive = new HashMap<>();
+        for (Row row : rows) {
+            if ("naive".equals(row.strategy)) {
+                naive.put(row.size + "/" + row.density, row.opsPerSecond);
+            }
+        }
+        System.out.println();
+        System.out.printf("%6s %8s %-10s %14s %9s %14s %14s%n",
+            "size", "density", "strategy", "ops/s", "vs naive", "alloc MB/s", "alloc B/op");
+        for (Row row : rows) {
+            Double base = naive.get(row.size + "/" + row.density);
+            String speedup = base == null ? "-" : String.format(Locale.ROOT, "%.2fx", row.opsPerSecond / base);
+            System.out.printf(Locale.ROOT, "%6s %8s %-10s %14.3f %9s %14.1f %14.0f%n",
+                row.size, row.density, row.strategy, row.opsPerSecond, speedup,
+                row.allocRate, row.allocPerOp);
+        }
+    }
+
+    private static void writeBaseline(Path path, List<Row> rows) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(CSV_HEADER);
+        for (Row row : rows) {
+            lines.add(row.key() + "," + row.opsPerSecond);
+        }
+        Files.write(path, lines, StandardCharsets.UTF_8);
+        System.out.println("Baseline written to " + path);
+    }
+
+    private static boolean checkBaseline(Path path, List<Row> rows, double tolerance) throws IOException {
+        Map<String, Double> baseline = new HashMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isEmpty() || line.equals(CSV_HEADER)) {
+                continue;
+            }
+            int comma = line.lastIndexOf(',');
+            baseline.put(line.substring(0, comma), Double.parseDouble(line.substring(comma + 1)));
+        }
+        boolean ok = true;
+        for (Row row : rows) {
+            Double expected = baseline.get(row.key());
+            if (expected != null && row.opsPerSecond < expected * (1 - tolerance)) {
+                System.out.printf(Locale.ROOT, "REGRESSION %s: %.3f ops/s vs baseline %.3f%n",
+                    row.key(), row.opsPerSecond, expected);
+                ok = false;
+            }
+        }
+        System.out.println(ok ? "No regressions against " + path : "Regressions found against " + path);
+        return ok;
+    }
+
+    private static final class Row {
+
+        final String size;
+        final String density;
+        final String strategy;
+        final double opsPerSecond;
+        final double allocRate;
+        final double allocPerOp;
+
+        private Row(String size, String density, String strategy,
+                    double opsPerSecond, double allocRate, double allocPerOp) {
+            this.size = size;
+            this.density = density;
+            this.strategy = strategy;
+            this.opsPerSecond = opsPerSecond;
+            this.allocRate = allocRate;
+            this.allocPerOp = allocPerOp;
+        }
+
+        static Row of(RunResult result) {
+            Map<String, Result> secondary = result.getSecondaryResults();
+            return new Row(
+                result.getParams().getParam("size"),
+                result.getParams().getParam("density"),
+                result.getParams().getParam("strategy"),
+                result.getPrimaryResult().getScore(),
+                score(secondary, "gc.alloc.rate"),
+                score(secondary, "gc.alloc.rate.norm"));
+        }
+
+        // Older JMH versions prefix profiler results with a middle dot
+        private static double score(Map<String, Result> secondary, String name) {
+            Result value = secondary.get(name);
+            if (value == null) {
+                value = secondary.get("·" + name);
+            }
+            return value == null ? Double.NaN : value.getScore();
+        }
+
+        String key() {
+            return size + "," + density + "," + strategy;
+        }
+    }
+}
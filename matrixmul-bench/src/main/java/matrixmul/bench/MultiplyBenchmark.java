@@ -0,0 +1,94 @@
+package matrixmul.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import matrixmul.BlockedStrategy;
+import matrixmul.IntMatrix;
+import matrixmul.MultiplicationStrategy;
+import matrixmul.NaiveStrategy;
+import matrixmul.ParallelStrategy;
+import matrixmul.SparseStrategy;
+import matrixmul.StrassenStrategy;
+import matrixmul.VectorStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of every int kernel across a size × density grid.
+ * Override the grid with e.g. {@code -p size=2048 -p density=0.01}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx4g"})
+public class MultiplyBenchmark {
+
+    @Param({"128", "512", "1024"})
+    public int size;
+
+    @Param({"1.0", "0.05", "0.01"})
+    public double density;
+
+    @Param({"naive", "blocked", "parallel", "vector", "strassen", "sparse"})
+    public String strategy;
+
+    private IntMatrix a;
+    private IntMatrix b;
+    private MultiplicationStrategy kernel;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        a = fill(random, size, density);
+        b = fill(random, size, density);
+        kernel = kernel(strategy);
+    }
+
+    @Benchmark
+    public IntMatrix multiply() {
+        return kernel.multiply(a, b);
+    }
+
+    static MultiplicationStrategy kernel(String name) {
+        switch (name) {
+            case "naive":
+                return new NaiveStrategy();
+            case "blocked":
+                return new BlockedStrategy();
+            case "parallel":
+                return new ParallelStrategy();
+            case "vector":
+                return new VectorStrategy();
+            case "strassen":
+                return new StrassenStrategy();
+            case "sparse":
+                return new SparseStrategy();
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    private static IntMatrix fill(Random random, int size, double density) {
+        IntMatrix matrix = new IntMatrix(size, size);
+        int[] data = matrix.data();
+        for (int i = 0; i < data.length; i++) {
+            if (density >= 1.0 || random.nextDouble() < density) {
+                data[i] = random.nextInt(201) - 100;
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,77 @@
+package matrixmul;
+
+/**
+ * Cache-blocked kernel over a transposed copy of B.
+ *
+ * <p>Transposing B turns every inner product into two sequential scans of
+ * row-major memory, and tiling the i, j and k loops keeps one tile of A and
+ * one tile of B<sup>T</sup> hot in cache while they are reused. Integer
+ * addition wraps the same way regardless of order, so the result matches
+ * {@link NaiveStrategy} bit for bit, overflow included.
+ */
+public final class BlockedStrategy implements MultiplicationStrategy {
+
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private final int tileSize;
+
+    public BlockedStrategy() {
+        this(DEFAULT_TILE_SIZE);
+    }
+
+    public BlockedStrategy(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    public int tileSize() {
+        return tileSize;
+    }
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        IntMatrix result = new IntMatrix(a.rows(), b.cols());
+        int[] bt = b.transpose().data();
+        multiplyRows(a.data(), bt, result.data(), a.cols(), b.cols(), 0, a.rows(), tileSize);
+        return result;
+    }
+
+    /**
+     * Accumulates rows {@code [rowFrom, rowTo)} of {@code a × b} into {@code c}.
+     *
+     * @param a  row-major m×n left operand
+     * @param bt row-major p×n transpose of the right operand
+     * @param c  row-major m×p result, accumulated into
+     */
+    static void multiplyRows(int[] a, int[] bt, int[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int k0 = 0; k0 < n; k0 += tile) {
+                    int kMax = Math.min(k0 + tile, n);
+                    for (int i = i0; i < iMax; i++) {
+                        int aRow = i * n;
+                        int cRow = i * p;
+                        for (int j = j0; j < jMax; j++) {
+                            int bRow = j * n;
+                            int sum = c[cRow + j];
+                            for (int k = k0; k < kMax; k++) {
+                                sum += a[aRow + k] * bt[bRow + k];
+                            }
+                            c[cRow + j] = sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public String name() {
+        return "blocked";
+    }
+}
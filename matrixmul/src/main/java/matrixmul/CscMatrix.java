@@ -0,0 +1,101 @@
+package matrixmul;
+
+/**
+ * Compressed sparse column matrix. Column {@code j} holds the entries
+ * {@code rowIdx[colPtr[j] .. colPtr[j + 1])} with matching {@code values}.
+ * Used as the right operand of dense × sparse products.
+ */
+public final class CscMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final int[] colPtr;
+    private final int[] rowIdx;
+    private final int[] values;
+
+    public CscMatrix(int rows, int cols, int[] colPtr, int[] rowIdx, int[] values) {
+        if (colPtr.length != cols + 1 || rowIdx.length < colPtr[cols] || values.length < colPtr[cols]) {
+            throw new IllegalArgumentException("Inconsistent CSC arrays for " + rows + "×" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.colPtr = colPtr;
+        this.rowIdx = rowIdx;
+        this.values = values;
+    }
+
+    public static CscMatrix fromDense(IntMatrix dense) {
+        int rows = dense.rows();
+        int cols = dense.cols();
+        int[] data = dense.data();
+        int[] colPtr = new int[cols + 1];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (data[i * cols + j] != 0) {
+                    colPtr[j + 1]++;
+                }
+            }
+        }
+        for (int j = 0; j < cols; j++) {
+            colPtr[j + 1] += colPtr[j];
+        }
+        int[] next = colPtr.clone();
+        int[] rowIdx = new int[colPtr[cols]];
+        int[] values = new int[colPtr[cols]];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                int v = data[i * cols + j];
+                if (v != 0) {
+                    int e = next[j]++;
+                    rowIdx[e] = i;
+                    values[e] = v;
+                }
+            }
+        }
+        return new CscMatrix(rows, cols, colPtr, rowIdx, values);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int nonZeros() {
+        return colPtr[cols];
+    }
+
+    public IntMatrix toDense() {
+        IntMatrix dense = new IntMatrix(rows, cols);
+        for (int j = 0; j < cols; j++) {
+            for (int e = colPtr[j]; e < colPtr[j + 1]; e++) {
+                dense.set(rowIdx[e], j, values[e]);
+            }
+        }
+        return dense;
+    }
+
+    /** Dense × sparse: {@code a × this}, gathering one row of {@code a} per non-zero. */
+    public IntMatrix leftMultiply(IntMatrix a) {
+        MatrixMultiplier.checkDimensions(a.cols(), rows);
+        int m = a.rows();
+        int n = a.cols();
+        int[] x = a.data();
+        IntMatrix result = new IntMatrix(m, cols);
+        int[] c = result.data();
+        for (int i = 0; i < m; i++) {
+            int aRow = i * n;
+            int cRow = i * cols;
+            for (int j = 0; j < cols; j++) {
+                int sum = 0;
+                for (int e = colPtr[j]; e < colPtr[j + 1]; e++) {
+                    sum += x[aRow + rowIdx[e]] * values[e];
+                }
+                c[cRow + j] = sum;
+            }
+        }
+        return result;
+    }
+}
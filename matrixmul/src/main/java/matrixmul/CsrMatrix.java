@@ -0,0 +1,294 @@
+package matrixmul;
+
+import java.util.Arrays;
+
+/**
+ * Compressed sparse row matrix. Row {@code i} holds the entries
+ * {@code colIdx[rowPtr[i] .. rowPtr[i + 1])} with matching {@code values};
+ * storage is O(rows + nonZeros). Column indices within a row are ascending.
+ *
+ * <p>{@link Builder} and {@link #read(MatrixFile, double)} build one straight
+ * from row-major input, without a dense copy.
+ */
+public final class CsrMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final int[] rowPtr;
+    private final int[] colIdx;
+    private final int[] values;
+
+    public CsrMatrix(int rows, int cols, int[] rowPtr, int[] colIdx, int[] values) {
+        if (rowPtr.length != rows + 1 || colIdx.length < rowPtr[rows] || values.length < rowPtr[rows]) {
+            throw new IllegalArgumentException("Inconsistent CSR arrays for " + rows + "×" + cols);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.rowPtr = rowPtr;
+        this.colIdx = colIdx;
+        this.values = values;
+    }
+
+    public static CsrMatrix fromDense(IntMatrix dense) {
+        int rows = dense.rows();
+        int cols = dense.cols();
+        int[] data = dense.data();
+        int nnz = 0;
+        for (int v : data) {
+            if (v != 0) {
+                nnz++;
+            }
+        }
+        int[] rowPtr = new int[rows + 1];
+        int[] colIdx = new int[nnz];
+        int[] values = new int[nnz];
+        int next = 0;
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            for (int j = 0; j < cols; j++) {
+                int v = data[row + j];
+                if (v != 0) {
+                    colIdx[next] = j;
+                    values[next++] = v;
+                }
+            }
+            rowPtr[i + 1] = next;
+        }
+        return new CsrMatrix(rows, cols, rowPtr, colIdx, values);
+    }
+
+    /**
+     * Reads {@code file} row by row into CSR, or returns {@code null} as soon as
+     * more than {@code maxDensity} of its elements turn out to be non-zero. The
+     * heap holds one row plus the non-zeros seen so far.
+     */
+    public static CsrMatrix read(MatrixFile file, double maxDensity) {
+        int rows = file.rows();
+        int cols = file.cols();
+        long limit = (long) (maxDensity * rows * cols);
+        Builder builder = new Builder(rows, cols);
+        int[] row = new int[cols];
+        for (int i = 0; i < rows; i++) {
+            file.readRow(i, row, 0);
+            for (int v : row) {
+                builder.add(v);
+            }
+            if (builder.nonZeros() > limit) {
+                return null;
+            }
+        }
+        return builder.build();
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int nonZeros() {
+        return rowPtr[rows];
+    }
+
+    /** Element (i, j), found by binary search within row i. */
+    public int get(int i, int j) {
+        int e = Arrays.binarySearch(colIdx, rowPtr[i], rowPtr[i + 1], j);
+        return e >= 0 ? values[e] : 0;
+    }
+
+    public IntMatrix toDense() {
+        IntMatrix dense = new IntMatrix(rows, cols);
+        int[] data = dense.data();
+        for (int i = 0; i < rows; i++) {
+            for (int e = rowPtr[i]; e < rowPtr[i + 1]; e++) {
+                data[i * cols + colIdx[e]] = values[e];
+            }
+        }
+        return dense;
+    }
+
+    /** The same matrix in CSC form, by a counting transpose in O(cols + nonZeros). */
+    public CscMatrix toCsc() {
+        int nnz = nonZeros();
+        int[] colPtr = new int[cols + 1];
+        for (int e = 0; e < nnz; e++) {
+            colPtr[colIdx[e] + 1]++;
+        }
+        for (int j = 0; j < cols; j++) {
+            colPtr[j + 1] += colPtr[j];
+        }
+        int[] next = Arrays.copyOf(colPtr, cols);
+        int[] rowIdx = new int[nnz];
+        int[] cscValues = new int[nnz];
+        for (int i = 0; i < rows; i++) {
+            for (int e = rowPtr[i]; e < rowPtr[i + 1]; e++) {
+                int f = next[colIdx[e]]++;
+                rowIdx[f] = i;
+                cscValues[f] = values[e];
+            }
+        }
+        return new CscMatrix(rows, cols, colPtr, rowIdx, cscValues);
+    }
+
+    /** Stores the non-zeros into {@code file}, which must be zero-filled and of the same shape. */
+    void writeTo(MatrixFile file) {
+        for (int i = 0; i < rows; i++) {
+            for (int e = rowPtr[i]; e < rowPtr[i + 1]; e++) {
+                file.set(i, colIdx[e], values[e]);
+            }
+        }
+    }
+
+    /** Sparse × dense: each non-zero a(i,k) scales row k of {@code b} into row i. */
+    public IntMatrix multiply(IntMatrix b) {
+        MatrixMultiplier.checkDimensions(cols, b.rows());
+        int p = b.cols();
+        int[] y = b.data();
+        IntMatrix result = new IntMatrix(rows, p);
+        int[] c = result.data();
+        for (int i = 0; i < rows; i++) {
+            int cRow = i * p;
+            for (int e = rowPtr[i]; e < rowPtr[i + 1]; e++) {
+                int v = values[e];
+                int bRow = colIdx[e] * p;
+                for (int j = 0; j < p; j++) {
+                    c[cRow + j] += v * y[bRow + j];
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sparse × sparse using Gustavson's row-by-row algorithm. A dense
+     * accumulator of one result row plus a list of touched columns keeps the
+     * work proportional to the number of scalar products actually needed.
+     */
+    public CsrMatrix multiply(CsrMatrix b) {
+        MatrixMultiplier.checkDimensions(cols, b.rows);
+        int p = b.cols;
+        int[] accumulator = new int[p];
+        int[] marker = new int[p];
+        Arrays.fill(marker, -1);
+        int[] touched = new int[p];
+
+        int[] outPtr = new int[rows + 1];
+        int[] outIdx = new int[Math.max(16, nonZeros() + b.nonZeros())];
+        int[] outVal = new int[outIdx.length];
+        int nnz = 0;
+        for (int i = 0; i < rows; i++) {
+            int count = 0;
+            for (int e = rowPtr[i]; e < rowPtr[i + 1]; e++) {
+                int v = values[e];
+                int k = colIdx[e];
+                for (int f = b.rowPtr[k]; f < b.rowPtr[k + 1]; f++) {
+                    int j = b.colIdx[f];
+                    if (marker[j] != i) {
+                        marker[j] = i;
+                        accumulator[j] = 0;
+                        touched[count++] = j;
+                    }
+                    accumulator[j] += v * b.values[f];
+                }
+            }
+            Arrays.sort(touched, 0, count);
+            if (nnz + count > outIdx.length) {
+                int capacity = Math.max(nnz + count, outIdx.length * 2);
+                outIdx = Arrays.copyOf(outIdx, capacity);
+                outVal = Arrays.copyOf(outVal, capacity);
+            }
+            for (int t = 0; t < count; t++) {
+                int j = touched[t];
+                // Products can cancel out; keep the result truly sparse
+                if (accumulator[j] != 0) {
+                    outIdx[nnz] = j;
+                    outVal[nnz++] = accumulator[j];
+                }
+            }
+            outPtr[i + 1] = nnz;
+        }
+        return new CsrMatrix(rows, p, outPtr, Arrays.copyOf(outIdx, nnz), Arrays.copyOf(outVal, nnz));
+    }
+
+    /**
+     * Collects a matrix one element at a time in row-major order and keeps only
+     * the non-zeros, so its storage grows with them rather than with rows × cols.
+     */
+    public static final class Builder {
+
+        private final int rows;
+        private final int cols;
+        private final int[] rowPtr;
+        private int[] colIdx = new int[16];
+        private int[] values = new int[16];
+        private int nnz;
+        private int row;
+        private int col;
+
+        public Builder(int rows, int cols) {
+            if (rows < 0 || cols < 0) {
+                throw new IllegalArgumentException("Negative dimensions: " + rows + "×" + cols);
+            }
+            this.rows = rows;
+            this.cols = cols;
+            this.rowPtr = new int[rows + 1];
+        }
+
+        /** Appends the next element in row-major order. */
+        public Builder add(int value) {
+            if (isComplete()) {
+                throw new IllegalStateException("All elements of the " + rows + "×" + cols + " matrix were added");
+            }
+            if (value != 0) {
+                if (nnz == colIdx.length) {
+                    colIdx = Arrays.copyOf(colIdx, nnz * 2);
+                    values = Arrays.copyOf(values, nnz * 2);
+                }
+                colIdx[nnz] = col;
+                values[nnz++] = value;
+            }
+            if (++col == cols) {
+                col = 0;
+                rowPtr[++row] = nnz;
+            }
+            return this;
+        }
+
+        public int nonZeros() {
+            return nnz;
+        }
+
+        /** Number of elements added so far, zero or not. */
+        public long added() {
+            return (long) row * cols + col;
+        }
+
+        /** Whether every element has been added. */
+        public boolean isComplete() {
+            return row == rows || cols == 0;
+        }
+
+        public CsrMatrix build() {
+            if (!isComplete()) {
+                throw new IllegalStateException("Only " + added() + " of "
+                    + (long) rows * cols + " elements were added");
+            }
+            return new CsrMatrix(rows, cols, rowPtr, Arrays.copyOf(colIdx, nnz), Arrays.copyOf(values, nnz));
+        }
+
+        /** The elements added so far as a dense matrix; the rest are zero. */
+        public IntMatrix toDense() {
+            IntMatrix dense = new IntMatrix(rows, cols);
+            int[] data = dense.data();
+            for (int i = 0; i <= row && i < rows; i++) {
+                int end = i < row ? rowPtr[i + 1] : nnz;
+                for (int e = rowPtr[i]; e < end; e++) {
+                    data[i * cols + colIdx[e]] = values[e];
+                }
+            }
+            return dense;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package matrixmul;
+
+/**
+ * Dense double matrix stored as a single row-major array.
+ * Element (i, j) lives at index {@code i * cols + j}.
+ */
+public final class DoubleMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final double[] data;
+
+    public DoubleMatrix(int rows, int cols) {
+        this(rows, cols, new double[checkedSize(rows, cols)]);
+    }
+
+    /** Wraps an existing row-major array without copying it. */
+    public DoubleMatrix(int rows, int cols, double[] data) {
+        if (data.length != checkedSize(rows, cols)) {
+            throw new IllegalArgumentException(
+                "Expected " + rows + "×" + cols + " elements but got " + data.length);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    public static DoubleMatrix of(double[][] values) {
+        int rows = values.length;
+        int cols = rows == 0 ? 0 : values[0].length;
+        DoubleMatrix matrix = new DoubleMatrix(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            if (values[i].length != cols) {
+                throw new IllegalArgumentException("Row " + i + " has " + values[i].length
+                    + " columns, expected " + cols);
+            }
+            System.arraycopy(values[i], 0, matrix.data, i * cols, cols);
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /** The backing row-major array; writes are visible through this matrix. */
+    public double[] data() {
+        return data;
+    }
+
+    public double get(int i, int j) {
+        return data[i * cols + j];
+    }
+
+    public void set(int i, int j, double value) {
+        data[i * cols + j] = value;
+    }
+
+    public DoubleMatrix transpose() {
+        DoubleMatrix t = new DoubleMatrix(cols, rows);
+        double[] out = t.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            for (int j = 0; j < cols; j++) {
+                out[j * rows + i] = data[row + j];
+            }
+        }
+        return t;
+    }
+
+    public double[][] toArray() {
+        double[][] values = new double[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * cols, values[i], 0, cols);
+        }
+        return values;
+    }
+
+    private static int checkedSize(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Negative dimensions: " + rows + "×" + cols);
+        }
+        return Math.multiplyExact(rows, cols);
+    }
+}
@@ -0,0 +1,89 @@
+package matrixmul;
+
+/**
+ * Dense int matrix stored as a single row-major array.
+ * Element (i, j) lives at index {@code i * cols + j}.
+ */
+public final class IntMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final int[] data;
+
+    public IntMatrix(int rows, int cols) {
+        this(rows, cols, new int[checkedSize(rows, cols)]);
+    }
+
+    /** Wraps an existing row-major array without copying it. */
+    public IntMatrix(int rows, int cols, int[] data) {
+        if (data.length != checkedSize(rows, cols)) {
+            throw new IllegalArgumentException(
+                "Expected " + rows + "×" + cols + " elements but got " + data.length);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    public static IntMatrix of(int[][] values) {
+        int rows = values.length;
+        int cols = rows == 0 ? 0 : values[0].length;
+        IntMatrix matrix = new IntMatrix(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            if (values[i].length != cols) {
+                throw new IllegalArgumentException("Row " + i + " has " + values[i].length
+                    + " columns, expected " + cols);
+            }
+            System.arraycopy(values[i], 0, matrix.data, i * cols, cols);
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /** The backing row-major array; writes are visible through this matrix. */
+    public int[] data() {
+        return data;
+    }
+
+    public int get(int i, int j) {
+        return data[i * cols + j];
+    }
+
+    public void set(int i, int j, int value) {
+        data[i * cols + j] = value;
+    }
+
+    public IntMatrix transpose() {
+        IntMatrix t = new IntMatrix(cols, rows);
+        int[] out = t.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            for (int j = 0; j < cols; j++) {
+                out[j * rows + i] = data[row + j];
+            }
+        }
+        return t;
+    }
+
+    public int[][] toArray() {
+        int[][] values = new int[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * cols, values[i], 0, cols);
+        }
+        return values;
+    }
+
+    private static int checkedSize(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Negative dimensions: " + rows + "×" + cols);
+        }
+        return Math.multiplyExact(rows, cols);
+    }
+}
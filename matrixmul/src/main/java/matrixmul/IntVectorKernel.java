@@ -0,0 +1,53 @@
+package matrixmul;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API inner-product kernel. Only loaded by {@link VectorStrategy} once it
+ * has confirmed that {@code jdk.incubator.vector} is resolved.
+ */
+final class IntVectorKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    private IntVectorKernel() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    /** Same contract as {@link BlockedStrategy#multiplyRows}, but overwrites {@code c}. */
+    static void multiplyRows(int[] a, int[] bt, int[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        int upper = SPECIES.loopBound(n);
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int i = i0; i < iMax; i++) {
+                    int aRow = i * n;
+                    int cRow = i * p;
+                    for (int j = j0; j < jMax; j++) {
+                        int bRow = j * n;
+                        IntVector acc = IntVector.zero(SPECIES);
+                        int k = 0;
+                        for (; k < upper; k += SPECIES.length()) {
+                            IntVector va = IntVector.fromArray(SPECIES, a, aRow + k);
+                            IntVector vb = IntVector.fromArray(SPECIES, bt, bRow + k);
+                            acc = acc.add(va.mul(vb));
+                        }
+                        int sum = acc.reduceLanes(VectorOperators.ADD);
+                        // Scalar tail for the last n % lanes elements
+                        for (; k < n; k++) {
+                            sum += a[aRow + k] * bt[bRow + k];
+                        }
+                        c[cRow + j] = sum;
+                    }
+                }
+            }
+        }
+    }
+}
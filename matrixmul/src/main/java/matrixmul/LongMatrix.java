@@ -0,0 +1,89 @@
+package matrixmul;
+
+/**
+ * Dense long matrix stored as a single row-major array.
+ * Element (i, j) lives at index {@code i * cols + j}.
+ */
+public final class LongMatrix {
+
+    private final int rows;
+    private final int cols;
+    private final long[] data;
+
+    public LongMatrix(int rows, int cols) {
+        this(rows, cols, new long[checkedSize(rows, cols)]);
+    }
+
+    /** Wraps an existing row-major array without copying it. */
+    public LongMatrix(int rows, int cols, long[] data) {
+        if (data.length != checkedSize(rows, cols)) {
+            throw new IllegalArgumentException(
+                "Expected " + rows + "×" + cols + " elements but got " + data.length);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.data = data;
+    }
+
+    public static LongMatrix of(long[][] values) {
+        int rows = values.length;
+        int cols = rows == 0 ? 0 : values[0].length;
+        LongMatrix matrix = new LongMatrix(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            if (values[i].length != cols) {
+                throw new IllegalArgumentException("Row " + i + " has " + values[i].length
+                    + " columns, expected " + cols);
+            }
+            System.arraycopy(values[i], 0, matrix.data, i * cols, cols);
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    /** The backing row-major array; writes are visible through this matrix. */
+    public long[] data() {
+        return data;
+    }
+
+    public long get(int i, int j) {
+        return data[i * cols + j];
+    }
+
+    public void set(int i, int j, long value) {
+        data[i * cols + j] = value;
+    }
+
+    public LongMatrix transpose() {
+        LongMatrix t = new LongMatrix(cols, rows);
+        long[] out = t.data;
+        for (int i = 0; i < rows; i++) {
+            int row = i * cols;
+            for (int j = 0; j < cols; j++) {
+                out[j * rows + i] = data[row + j];
+            }
+        }
+        return t;
+    }
+
+    public long[][] toArray() {
+        long[][] values = new long[rows][cols];
+        for (int i = 0; i < rows; i++) {
+            System.arraycopy(data, i * cols, values[i], 0, cols);
+        }
+        return values;
+    }
+
+    private static int checkedSize(int rows, int cols) {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Negative dimensions: " + rows + "×" + cols);
+        }
+        return Math.multiplyExact(rows, cols);
+    }
+}
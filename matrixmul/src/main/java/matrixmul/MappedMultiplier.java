@@ -0,0 +1,78 @@
+package matrixmul;
+
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Multiplies two {@link MatrixFile}s into a third without loading either
+ * operand onto the heap.
+ *
+ * <p>A block of A's rows is accumulated at a time in i-k-j order: every row k
+ * of B is streamed once per block straight from its mapping and scaled into
+ * all the block's partial result rows, so both B and C are read sequentially.
+ * Finished rows are written to the output mapping immediately. The heap
+ * working set is {@code rowBlock × (n + p)} ints.
+ */
+public final class MappedMultiplier {
+
+    public static final int DEFAULT_ROW_BLOCK = 32;
+
+    private final int rowBlock;
+
+    public MappedMultiplier() {
+        this(DEFAULT_ROW_BLOCK);
+    }
+
+    public MappedMultiplier(int rowBlock) {
+        if (rowBlock < 1) {
+            throw new IllegalArgumentException("Row block must be positive: " + rowBlock);
+        }
+        this.rowBlock = rowBlock;
+    }
+
+    /** Computes {@code a × b} into a new file at {@code out}. */
+    public void multiply(Path a, Path b, Path out) throws IOException {
+        try (MatrixFile fa = MatrixFile.open(a);
+             MatrixFile fb = MatrixFile.open(b)) {
+            MatrixMultiplier.checkDimensions(fa.cols(), fb.rows());
+            try (MatrixFile fc = MatrixFile.create(out, fa.rows(), fb.cols())) {
+                multiply(fa, fb, fc);
+            }
+        }
+    }
+
+    public void multiply(MatrixFile a, MatrixFile b, MatrixFile c) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int m = a.rows();
+        int n = a.cols();
+        int p = b.cols();
+        int[] aRows = new int[rowBlock * n];
+        int[] acc = new int[rowBlock * p];
+        for (int i0 = 0; i0 < m; i0 += rowBlock) {
+            int count = Math.min(rowBlock, m - i0);
+            for (int r = 0; r < count; r++) {
+                a.readRow(i0 + r, aRows, r * n);
+            }
+            Arrays.fill(acc, 0);
+            for (int k = 0; k < n; k++) {
+                IntBuffer bRow = b.window(k);
+                int base = b.offsetInWindow(k);
+                for (int r = 0; r < count; r++) {
+                    int v = aRows[r * n + k];
+                    if (v == 0) {
+                        continue;
+                    }
+                    int cRow = r * p;
+                    for (int j = 0; j < p; j++) {
+                        acc[cRow + j] += v * bRow.get(base + j);
+                    }
+                }
+            }
+            for (int r = 0; r < count; r++) {
+                c.writeRow(i0 + r, acc, r * p);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package matrixmul;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped binary matrix file.
+ *
+ * <p>Layout (little-endian):
+ * <pre>
+ *   offset  0  int  magic   "MTRX"
+ *   offset  4  int  version 1
+ *   offset  8  int  dtype   1 = int32
+ *   offset 12  int  rows
+ *   offset 16  int  cols
+ *   offset 20  ...  reserved up to {@link #HEADER_BYTES}
+ *   offset 32  rows × cols elements, row-major
+ * </pre>
+ *
+ * <p>A single mapping is limited to 2 GB, so the data section is mapped as a
+ * series of windows of whole rows. Element access goes straight to the mapped
+ * pages; nothing is copied onto the heap.
+ */
+public final class MatrixFile implements AutoCloseable {
+
+    public static final int MAGIC = 0x5852544D; // "MTRX" read little-endian
+    public static final int VERSION = 1;
+    public static final int DTYPE_INT32 = 1;
+    public static final int HEADER_BYTES = 32;
+
+    private static final long MAX_WINDOW_BYTES = 1L << 30;
+
+    private final FileChannel channel;
+    private final int rows;
+    private final int cols;
+    private final int rowsPerWindow;
+    private final MappedByteBuffer[] mapped;
+    private final IntBuffer[] windows;
+
+    private MatrixFile(FileChannel channel, FileChannel.MapMode mode, int rows, int cols) throws IOException {
+        this.channel = channel;
+        this.rows = rows;
+        this.cols = cols;
+        long rowBytes = (long) cols * Integer.BYTES;
+        if (rowBytes > MAX_WINDOW_BYTES) {
+            throw new IOException("Rows of " + cols + " columns are too wide to map");
+        }
+        this.rowsPerWindow = rowBytes == 0 ? Math.max(rows, 1) : (int) Math.min(rows, MAX_WINDOW_BYTES / rowBytes);
+        int count = rows == 0 ? 0 : (rows + rowsPerWindow - 1) / rowsPerWindow;
+        this.mapped = new MappedByteBuffer[count];
+        this.windows = new IntBuffer[count];
+        for (int w = 0; w < count; w++) {
+            int first = w * rowsPerWindow;
+            int windowRows = Math.min(rowsPerWindow, rows - first);
+            mapped[w] = channel.map(mode, HEADER_BYTES + first * rowBytes, windowRows * rowBytes);
+            mapped[w].order(ByteOrder.LITTLE_ENDIAN);
+            windows[w] = mapped[w].asIntBuffer();
+        }
+    }
+
+    /** Maps an existing matrix file read-only. */
+    public static MatrixFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or EOF
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+                throw new IOException(path + " is not a matrix file");
+            }
+            if (header.getInt(4) != VERSION || header.getInt(8) != DTYPE_INT32) {
+                throw new IOException(path + ": unsupported version " + header.getInt(4)
+                    + " or dtype " + header.getInt(8));
+            }
+            int rows = header.getInt(12);
+            int cols = header.getInt(16);
+            long expected = HEADER_BYTES + (long) rows * cols * Integer.BYTES;
+            if (rows < 0 || cols < 0 || channel.size() < expected) {
+                throw new IOException(path + " is truncated: expected " + expected + " bytes");
+            }
+            return new MatrixFile(channel, FileChannel.MapMode.READ_ONLY, rows, cols);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Creates (or truncates) a zero-filled rows×cols matrix file mapped read-write. */
+    public static MatrixFile create(Path path, int rows, int cols) throws IOException {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Negative dimensions: " + rows + "×" + cols);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(DTYPE_INT32).putInt(rows).putInt(cols);
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            return new MatrixFile(channel, FileChannel.MapMode.READ_WRITE, rows, cols);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /** Writes a heap matrix to {@code path}. */
+    public static void write(Path path, IntMatrix matrix) throws IOException {
+        try (MatrixFile file = create(path, matrix.rows(), matrix.cols())) {
+            for (int i = 0; i < matrix.rows(); i++) {
+                file.writeRow(i, matrix.data(), i * matrix.cols());
+            }
+        }
+    }
+
+    /** Writes a CSR matrix to {@code path}, touching only its non-zeros. */
+    public static void write(Path path, CsrMatrix matrix) throws IOException {
+        try (MatrixFile file = create(path, matrix.rows(), matrix.cols())) {
+            matrix.writeTo(file);
+        }
+    }
+
+    /** Copies the whole file onto the heap; meant for small matrices. */
+    public IntMatrix read() {
+        IntMatrix matrix = new IntMatrix(rows, cols);
+        for (int i = 0; i < rows; i++) {
+            readRow(i, matrix.data(), i * cols);
+        }
+        return matrix;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int get(int i, int j) {
+        return windows[i / rowsPerWindow].get((i % rowsPerWindow) * cols + j);
+    }
+
+    public void set(int i, int j, int value) {
+        windows[i / rowsPerWindow].put((i % rowsPerWindow) * cols + j, value);
+    }
+
+    /** Copies row {@code i} into {@code dst[offset .. offset + cols)}. */
+    public void readRow(int i, int[] dst, int offset) {
+        rowBuffer(i).get(dst, offset, cols);
+    }
+
+    /** Copies {@code src[offset .. offset + cols)} into row {@code i}. */
+    public void writeRow(int i, int[] src, int offset) {
+        rowBuffer(i).put(src, offset, cols);
+    }
+
+    /** Copies {@code count} elements of row {@code i} starting at column {@code col}. */
+    public void readRow(int i, int col, int count, int[] dst, int offset) {
+        IntBuffer buffer = rowBuffer(i);
+        buffer.position(buffer.position() + col);
+        buffer.get(dst, offset, count);
+    }
+
+    /** Writes {@code count} elements into row {@code i} starting at column {@code col}. */
+    public void writeRow(int i, int col, int count, int[] src, int offset) {
+        IntBuffer buffer = rowBuffer(i);
+        buffer.position(buffer.position() + col);
+        buffer.put(src, offset, count);
+    }
+
+    /** The mapped window holding row {@code i}; row i starts at {@link #offsetInWindow(int)}. */
+    IntBuffer window(int i) {
+        return windows[i / rowsPerWindow];
+    }
+
+    int offsetInWindow(int i) {
+        return (i % rowsPerWindow) * cols;
+    }
+
+    private IntBuffer rowBuffer(int i) {
+        IntBuffer buffer = windows[i / rowsPerWindow].duplicate();
+        buffer.position(offsetInWindow(i));
+        return buffer;
+    }
+
+    /** Flushes pending writes to the storage device. */
+    public void force() {
+        for (MappedByteBuffer buffer : mapped) {
+            if (!buffer.isReadOnly()) {
+                buffer.force();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
@@ -0,0 +1,296 @@
+package matrixmul;
+
+import common.NumberInput;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Validates operands and delegates the product to a {@link MultiplicationStrategy}.
+ *
+ * <p>The console entry point keeps the interactive prompts of {@code matrixmul}
+ * (reading through {@link NumberInput}, so piped input skips {@code Scanner})
+ * and accepts {@code --strategy=auto|naive|blocked|parallel|vector|strassen|sparse},
+ * {@code --tile=N}, {@code --parallelism=N}, {@code --cutoff=ROWS},
+ * {@code --crossover=N}, {@code --density=FRACTION} and
+ * {@code --type=int|wide|long|float|double}. With the default {@code auto},
+ * and with {@code sparse}, int operands are read straight into CSR and only
+ * switch to dense storage if their non-zeros pass the density threshold. The
+ * sparse kernels run when either operand stayed sparse, the blocked kernel
+ * otherwise, and a product of two sparse operands is printed from CSR.
+ * Types other than {@code int} go through {@link PrimitiveMultiplier}, in
+ * parallel when {@code --strategy=parallel} and blocked otherwise;
+ * {@code wide} reads ints and accumulates in long.
+ *
+ * <p>With {@code --a=FILE --b=FILE --out=FILE} the operands are read from
+ * {@link MatrixFile}s and multiplied by {@link MappedMultiplier} instead, with
+ * no prompts. Under {@code auto} or {@code sparse}, two operand files that are
+ * both at or below the density threshold are read into CSR and multiplied
+ * sparsely; otherwise, and whenever {@code --budget-mb=N} selects the
+ * {@link OutOfCoreMultiplier} with its fixed heap of about N megabytes, the
+ * files are multiplied through their mappings.
+ */
+public class MatrixMultiplier {
+
+    private final MultiplicationStrategy strategy;
+
+    public MatrixMultiplier() {
+        this(new BlockedStrategy());
+    }
+
+    public MatrixMultiplier(MultiplicationStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public MultiplicationStrategy strategy() {
+        return strategy;
+    }
+
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        checkDimensions(a.cols(), b.rows());
+        return strategy.multiply(a, b);
+    }
+
+    public int[][] multiply(int[][] a, int[][] b) {
+        return multiply(IntMatrix.of(a), IntMatrix.of(b)).toArray();
+    }
+
+    static void checkDimensions(int colsA, int rowsB) {
+        if (colsA != rowsB) {
+            throw new IllegalArgumentException(
+                "Matrix Multiplication is not possible (M1 columns ≠ M2 rows).");
+        }
+    }
+
+    /**
+     * The strategy that loads int operands as {@link SparseStrategy.Operand}s:
+     * set for {@code auto} and {@code sparse}, {@code null} otherwise.
+     */
+    static SparseStrategy sparseStrategyFor(String[] args) {
+        String name = option(args, "strategy", "auto");
+        return "auto".equals(name) || "sparse".equals(name) ? sparseStrategy(args) : null;
+    }
+
+    /** Resolves an explicit strategy; {@code auto} without operands means {@code blocked}. */
+    static MultiplicationStrategy strategyFor(String[] args) {
+        String name = option(args, "strategy", "auto");
+        int tile = tile(args);
+        switch (name) {
+            case "naive":
+                return new NaiveStrategy();
+            case "auto":
+            case "blocked":
+                return new BlockedStrategy(tile);
+            case "parallel":
+                int parallelism = Integer.parseInt(option(args, "parallelism",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+                int cutoff = Integer.parseInt(option(args, "cutoff",
+                    String.valueOf(ParallelStrategy.DEFAULT_CUTOFF_ROWS)));
+                return new ParallelStrategy(parallelism, cutoff, tile);
+            case "vector":
+                if (!VectorStrategy.isVectorized()) {
+                    System.err.println("jdk.incubator.vector not available, using the scalar kernel."
+                        + " Run with --add-modules jdk.incubator.vector to enable SIMD.");
+                }
+                return new VectorStrategy(tile);
+            case "strassen":
+                int crossover = Integer.parseInt(option(args, "crossover",
+                    String.valueOf(StrassenStrategy.DEFAULT_CROSSOVER)));
+                return new StrassenStrategy(crossover, tile);
+            case "sparse":
+                return sparseStrategy(args);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    /** The {@code --strategy=parallel} strategy, owning its pool, or {@code null} for any other strategy. */
+    static ParallelStrategy parallelStrategyFor(String[] args) {
+        if ("parallel".equals(option(args, "strategy", "auto"))) {
+            return (ParallelStrategy) strategyFor(args);
+        }
+        return null;
+    }
+
+    private static int tile(String[] args) {
+        return Integer.parseInt(option(args, "tile", String.valueOf(BlockedStrategy.DEFAULT_TILE_SIZE)));
+    }
+
+    private static SparseStrategy sparseStrategy(String[] args) {
+        double threshold = Double.parseDouble(option(args, "density",
+            String.valueOf(SparseStrategy.DEFAULT_DENSITY_THRESHOLD)));
+        return new SparseStrategy(threshold, new BlockedStrategy(tile(args)));
+    }
+
+    /** Returns the value of a {@code --name=value} argument, or the default. */
+    static String option(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (option(args, "a", null) != null) {
+            multiplyFiles(args);
+            return;
+        }
+        try (NumberInput in = NumberInput.stdin();
+             ParallelStrategy parallel = parallelStrategyFor(args)) {
+            System.out.print("Enter number of rows in M1: ");
+            int m = in.nextInt();
+            System.out.print("Enter number of columns in M1: ");
+            int n = in.nextInt();
+            System.out.print("Enter number of rows in M2: ");
+            int o = in.nextInt();
+            System.out.print("Enter number of columns in M2: ");
+            int p = in.nextInt();
+
+            if (n != o) {
+                System.out.println("Matrix Multiplication is not possible (M1 columns ≠ M2 rows).");
+                return;
+            }
+
+            String type = option(args, "type", "int");
+            switch (type) {
+                case "int": {
+                    SparseStrategy sparse = sparseStrategyFor(args);
+                    if (sparse != null) {
+                        SparseStrategy.Operand a = sparse.operand(m, n);
+                        SparseStrategy.Operand b = sparse.operand(o, p);
+                        readMatrix("A", m, n, (i, j) -> a.add(in.nextInt()));
+                        readMatrix("B", o, p, (i, j) -> b.add(in.nextInt()));
+                        SparseStrategy.Operand c = sparse.multiply(a, b);
+                        printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                        break;
+                    }
+                    IntMatrix a = new IntMatrix(m, n);
+                    IntMatrix b = new IntMatrix(o, p);
+                    readMatrix("A", m, n, (i, j) -> a.set(i, j, in.nextInt()));
+                    readMatrix("B", o, p, (i, j) -> b.set(i, j, in.nextInt()));
+                    IntMatrix c = new MatrixMultiplier(parallel != null ? parallel : strategyFor(args)).multiply(a, b);
+                    printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                    break;
+                }
+                case "wide": {
+                    IntMatrix a = new IntMatrix(m, n);
+                    IntMatrix b = new IntMatrix(o, p);
+                    readMatrix("A", m, n, (i, j) -> a.set(i, j, in.nextInt()));
+                    readMatrix("B", o, p, (i, j) -> b.set(i, j, in.nextInt()));
+                    LongMatrix c = new PrimitiveMultiplier(tile(args), parallel).multiplyWide(a, b);
+                    printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                    break;
+                }
+                case "long": {
+                    LongMatrix a = new LongMatrix(m, n);
+                    LongMatrix b = new LongMatrix(o, p);
+                    readMatrix("A", m, n, (i, j) -> a.set(i, j, in.nextLong()));
+                    readMatrix("B", o, p, (i, j) -> b.set(i, j, in.nextLong()));
+                    LongMatrix c = new PrimitiveMultiplier(tile(args), parallel).multiply(a, b);
+                    printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                    break;
+                }
+                case "float": {
+                    FloatMatrix a = new FloatMatrix(m, n);
+                    FloatMatrix b = new FloatMatrix(o, p);
+                    readMatrix("A", m, n, (i, j) -> a.set(i, j, in.nextFloat()));
+                    readMatrix("B", o, p, (i, j) -> b.set(i, j, in.nextFloat()));
+                    FloatMatrix c = new PrimitiveMultiplier(tile(args), parallel).multiply(a, b);
+                    printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                    break;
+                }
+                case "double": {
+                    DoubleMatrix a = new DoubleMatrix(m, n);
+                    DoubleMatrix b = new DoubleMatrix(o, p);
+                    readMatrix("A", m, n, (i, j) -> a.set(i, j, in.nextDouble()));
+                    readMatrix("B", o, p, (i, j) -> b.set(i, j, in.nextDouble()));
+                    DoubleMatrix c = new PrimitiveMultiplier(tile(args), parallel).multiply(a, b);
+                    printMatrix(m, p, (line, i, j) -> line.append(c.get(i, j)));
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown type: " + type);
+            }
+        }
+    }
+
+    private static void multiplyFiles(String[] args) throws IOException {
+        Path a = Paths.get(option(args, "a", null));
+        String b = option(args, "b", null);
+        String out = option(args, "out", null);
+        if (b == null || out == null) {
+            throw new IllegalArgumentException("--a requires --b=FILE and --out=FILE");
+        }
+        String budget = option(args, "budget-mb", null);
+        SparseStrategy sparse = sparseStrategyFor(args);
+        if (budget != null) {
+            OutOfCoreMultiplier.withBudget(Long.parseLong(budget) << 20).multiply(a, Paths.get(b), Paths.get(out));
+        } else if (sparse == null || !multiplySparseFiles(sparse, a, Paths.get(b), Paths.get(out))) {
+            new MappedMultiplier().multiply(a, Paths.get(b), Paths.get(out));
+        }
+        System.out.println("Resultant Matrix written to " + out);
+    }
+
+    /**
+     * Multiplies two matrix files in CSR if both are at or below the density
+     * threshold. Returns {@code false}, having written nothing, as soon as
+     * either turns out to be denser.
+     */
+    static boolean multiplySparseFiles(SparseStrategy sparse, Path a, Path b, Path out) throws IOException {
+        CsrMatrix ca;
+        CsrMatrix cb;
+        try (MatrixFile fa = MatrixFile.open(a);
+             MatrixFile fb = MatrixFile.open(b)) {
+            checkDimensions(fa.cols(), fb.rows());
+            ca = CsrMatrix.read(fa, sparse.threshold());
+            cb = ca == null ? null : CsrMatrix.read(fb, sparse.threshold());
+        }
+        if (cb == null) {
+            return false;
+        }
+        MatrixFile.write(out, ca.multiply(cb));
+        return true;
+    }
+
+    /** Reads one element into a matrix of any primitive type. */
+    @FunctionalInterface
+    private interface CellReader {
+        void read(int i, int j);
+    }
+
+    /** Appends one element of a matrix of any primitive type. */
+    @FunctionalInterface
+    private interface CellWriter {
+        void append(StringBuilder line, int i, int j);
+    }
+
+    private static void readMatrix(String label, int rows, int cols, CellReader cell) {
+        System.out.println("Enter elements of Matrix " + label + ":");
+        // Per-element prompts only help a person at a terminal; skip them for piped input
+        boolean prompt = NumberInput.isInteractive();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                if (prompt) {
+                    System.out.print(label + "[" + i + "][" + j + "] : ");
+                }
+                cell.read(i, j);
+            }
+        }
+    }
+
+    private static void printMatrix(int rows, int cols, CellWriter cell) {
+        System.out.println("Resultant Matrix:");
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            line.setLength(0);
+            for (int j = 0; j < cols; j++) {
+                cell.append(line, i, j);
+                line.append(' ');
+            }
+            System.out.println(line);
+        }
+    }
+}
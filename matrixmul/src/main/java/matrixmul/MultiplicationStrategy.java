@@ -0,0 +1,13 @@
+package matrixmul;
+
+/**
+ * A kernel that computes the product of two int matrices.
+ * Callers guarantee {@code a.cols() == b.rows()}; see {@link MatrixMultiplier}.
+ */
+public interface MultiplicationStrategy {
+
+    IntMatrix multiply(IntMatrix a, IntMatrix b);
+
+    /** Short name used to select the strategy from the command line. */
+    String name();
+}
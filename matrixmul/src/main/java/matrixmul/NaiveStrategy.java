@@ -0,0 +1,34 @@
+package matrixmul;
+
+/**
+ * The original i-j-k triple loop. Kept as the reference result that every
+ * other strategy must reproduce exactly.
+ */
+public final class NaiveStrategy implements MultiplicationStrategy {
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        int m = a.rows();
+        int n = a.cols();
+        int p = b.cols();
+        int[] x = a.data();
+        int[] y = b.data();
+        IntMatrix result = new IntMatrix(m, p);
+        int[] c = result.data();
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < p; j++) {
+                int sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += x[i * n + k] * y[k * p + j];
+                }
+                c[i * p + j] = sum;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String name() {
+        return "naive";
+    }
+}
@@ -0,0 +1,101 @@
+package matrixmul;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * File-to-file multiplication with a fixed heap working set.
+ *
+ * <p>The result is produced one {@code panelRows × panelCols} tile at a time.
+ * For each tile, A is read in row panels of {@code panelRows × depth} and B in
+ * column panels of {@code depth × panelCols} (stored transposed), both
+ * accumulated into the tile with the blocked kernel. Once the k loop is done
+ * the tile is written to the output file and its buffer reused.
+ *
+ * <p>The heap therefore holds exactly three panel buffers regardless of the
+ * matrix dimensions; only the page cache sees the full files.
+ */
+public final class OutOfCoreMultiplier {
+
+    public static final long DEFAULT_BUDGET_BYTES = 64L << 20;
+
+    private final int panelRows;
+    private final int panelCols;
+    private final int depth;
+    private final int tileSize;
+
+    public OutOfCoreMultiplier(int panelRows, int panelCols, int depth, int tileSize) {
+        if (panelRows < 1 || panelCols < 1 || depth < 1 || tileSize < 1) {
+            throw new IllegalArgumentException("Panel and tile sizes must be positive");
+        }
+        this.panelRows = panelRows;
+        this.panelCols = panelCols;
+        this.depth = depth;
+        this.tileSize = tileSize;
+    }
+
+    /** Square panels sized so that the three buffers fit in {@code budgetBytes}. */
+    public static OutOfCoreMultiplier withBudget(long budgetBytes) {
+        int side = (int) Math.sqrt(budgetBytes / (3.0 * Integer.BYTES));
+        int tile = BlockedStrategy.DEFAULT_TILE_SIZE;
+        // Whole tiles keep the blocked kernel's inner loops full
+        if (side >= tile) {
+            side -= side % tile;
+        }
+        if (side < 1) {
+            throw new IllegalArgumentException("Budget too small: " + budgetBytes + " bytes");
+        }
+        return new OutOfCoreMultiplier(side, side, side, tile);
+    }
+
+    /** Heap bytes held by the panel buffers. */
+    public long workingSetBytes() {
+        return ((long) panelRows * depth + (long) depth * panelCols + (long) panelRows * panelCols) * Integer.BYTES;
+    }
+
+    public void multiply(Path a, Path b, Path out) throws IOException {
+        try (MatrixFile fa = MatrixFile.open(a);
+             MatrixFile fb = MatrixFile.open(b)) {
+            MatrixMultiplier.checkDimensions(fa.cols(), fb.rows());
+            try (MatrixFile fc = MatrixFile.create(out, fa.rows(), fb.cols())) {
+                multiply(fa, fb, fc);
+            }
+        }
+    }
+
+    public void multiply(MatrixFile a, MatrixFile b, MatrixFile c) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int m = a.rows();
+        int n = a.cols();
+        int p = b.cols();
+        int[] aPanel = new int[panelRows * depth];
+        int[] btPanel = new int[panelCols * depth];
+        int[] cTile = new int[panelRows * panelCols];
+        int[] bRow = new int[panelCols];
+
+        for (int i0 = 0; i0 < m; i0 += panelRows) {
+            int rows = Math.min(panelRows, m - i0);
+            for (int j0 = 0; j0 < p; j0 += panelCols) {
+                int cols = Math.min(panelCols, p - j0);
+                Arrays.fill(cTile, 0, rows * cols, 0);
+                for (int k0 = 0; k0 < n; k0 += depth) {
+                    int ks = Math.min(depth, n - k0);
+                    for (int r = 0; r < rows; r++) {
+                        a.readRow(i0 + r, k0, ks, aPanel, r * ks);
+                    }
+                    for (int k = 0; k < ks; k++) {
+                        b.readRow(k0 + k, j0, cols, bRow, 0);
+                        for (int j = 0; j < cols; j++) {
+                            btPanel[j * ks + k] = bRow[j];
+                        }
+                    }
+                    BlockedStrategy.multiplyRows(aPanel, btPanel, cTile, ks, cols, 0, rows, tileSize);
+                }
+                for (int r = 0; r < rows; r++) {
+                    c.writeRow(i0 + r, j0, cols, cTile, r * cols);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package matrixmul;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join version of {@link BlockedStrategy}.
+ *
+ * <p>The result rows are split in half recursively until a block holds at
+ * most {@code cutoffRows} rows; each leaf then runs the blocked kernel on its
+ * own rows. Leaves write disjoint slices of the result, so no synchronisation
+ * is needed beyond the join. Inputs with no more than {@code cutoffRows} rows
+ * skip the pool entirely.
+ *
+ * <p>A strategy built with a parallelism level owns its pool, and
+ * {@link #close()} shuts that pool down. A pool passed in by the caller,
+ * including the common pool, is left running.
+ */
+public final class ParallelStrategy implements MultiplicationStrategy, AutoCloseable {
+
+    public static final int DEFAULT_CUTOFF_ROWS = 64;
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int cutoffRows;
+    private final int tileSize;
+
+    /** Uses the common pool, which is sized to the available cores. */
+    public ParallelStrategy() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CUTOFF_ROWS, BlockedStrategy.DEFAULT_TILE_SIZE);
+    }
+
+    /** Creates a private pool of {@code parallelism} workers; release it with {@link #close()}. */
+    public ParallelStrategy(int parallelism, int cutoffRows, int tileSize) {
+        this(null, parallelism, cutoffRows, tileSize);
+    }
+
+    /** Runs on a caller-owned pool, which {@link #close()} does not shut down. */
+    public ParallelStrategy(ForkJoinPool pool, int cutoffRows, int tileSize) {
+        this(requirePool(pool), 0, cutoffRows, tileSize);
+    }
+
+    // A null pool means create and own one of the given parallelism, once the arguments are valid
+    private ParallelStrategy(ForkJoinPool pool, int parallelism, int cutoffRows, int tileSize) {
+        if (cutoffRows < 1) {
+            throw new IllegalArgumentException("Cutoff must be positive: " + cutoffRows);
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.pool = pool != null ? pool : new ForkJoinPool(parallelism);
+        this.ownsPool = pool == null;
+        this.cutoffRows = cutoffRows;
+        this.tileSize = tileSize;
+    }
+
+    private static ForkJoinPool requirePool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must not be null");
+        }
+        return pool;
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        IntMatrix result = new IntMatrix(a.rows(), b.cols());
+        int[] x = a.data();
+        int[] bt = b.transpose().data();
+        int[] c = result.data();
+        int n = a.cols();
+        int p = b.cols();
+        run(a.rows(), (from, to) -> BlockedStrategy.multiplyRows(x, bt, c, n, p, from, to, tileSize));
+        return result;
+    }
+
+    /** Runs {@code kernel} over {@code [0, rows)}, forking row blocks when it pays off. */
+    void run(int rows, RowKernel kernel) {
+        if (rows <= cutoffRows) {
+            kernel.compute(0, rows);
+        } else {
+            pool.invoke(new RowBlock(kernel, 0, rows, cutoffRows));
+        }
+    }
+
+    @Override
+    public String name() {
+        return "parallel";
+    }
+
+    /** Shuts down the pool if this strategy created it; running multiplications finish first. */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+    /** Computes result rows {@code [from, to)}; must only write those rows. */
+    @FunctionalInterface
+    interface RowKernel {
+        void compute(int from, int to);
+    }
+
+    // Never serialized; RecursiveAction is Serializable only through ForkJoinTask
+    @SuppressWarnings("serial")
+    private static final class RowBlock extends RecursiveAction {
+
+        private final RowKernel kernel;
+        private final int from;
+        private final int to;
+        private final int cutoffRows;
+
+        RowBlock(RowKernel kernel, int from, int to, int cutoffRows) {
+            this.kernel = kernel;
+            this.from = from;
+            this.to = to;
+            this.cutoffRows = cutoffRows;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoffRows) {
+                kernel.compute(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RowBlock(kernel, from, mid, cutoffRows),
+                      new RowBlock(kernel, mid, to, cutoffRows));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package matrixmul;
+
+/**
+ * Primitive-specialised products for element types other than wrapping int.
+ *
+ * <ul>
+ *   <li>{@link #multiplyWide}: int operands, long accumulator and result.
+ *       Each int×int product is exact in a long, but the sum of n products
+ *       is exact only while n·max|a|·max|b| stays below 2^63 (any n up to
+ *       2^32 when every operand fits in 16 bits). Two products of
+ *       {@code Integer.MIN_VALUE} squared already reach 2^63 and wrap, as
+ *       the long sum does whenever the bound is exceeded</li>
+ *   <li>{@code long}, {@code float} and {@code double} operands</li>
+ * </ul>
+ *
+ * Every type gets its own copy of the cache-blocked, transposed-B kernel from
+ * {@link BlockedStrategy}; there is no boxing and no generic {@code Number}
+ * path. Given a {@link ParallelStrategy}, rows are split across its pool the
+ * same way as for int. The k loop runs in ascending order for every element,
+ * so floating-point results are identical to a plain sequential dot product.
+ */
+public final class PrimitiveMultiplier {
+
+    private final int tileSize;
+    private final ParallelStrategy parallel;
+
+    /** Single-threaded, blocked. */
+    public PrimitiveMultiplier(int tileSize) {
+        this(tileSize, null);
+    }
+
+    /** Blocked, with rows split across {@code parallel}'s pool; {@code null} means single-threaded. */
+    public PrimitiveMultiplier(int tileSize, ParallelStrategy parallel) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+        this.parallel = parallel;
+    }
+
+    public LongMatrix multiplyWide(IntMatrix a, IntMatrix b) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int n = a.cols();
+        int p = b.cols();
+        int[] x = a.data();
+        int[] bt = b.transpose().data();
+        LongMatrix result = new LongMatrix(a.rows(), p);
+        long[] c = result.data();
+        run(a.rows(), (from, to) -> multiplyRows(x, bt, c, n, p, from, to, tileSize));
+        return result;
+    }
+
+    public LongMatrix multiply(LongMatrix a, LongMatrix b) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int n = a.cols();
+        int p = b.cols();
+        long[] x = a.data();
+        long[] bt = b.transpose().data();
+        LongMatrix result = new LongMatrix(a.rows(), p);
+        long[] c = result.data();
+        run(a.rows(), (from, to) -> multiplyRows(x, bt, c, n, p, from, to, tileSize));
+        return result;
+    }
+
+    public FloatMatrix multiply(FloatMatrix a, FloatMatrix b) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int n = a.cols();
+        int p = b.cols();
+        float[] x = a.data();
+        float[] bt = b.transpose().data();
+        FloatMatrix result = new FloatMatrix(a.rows(), p);
+        float[] c = result.data();
+        run(a.rows(), (from, to) -> multiplyRows(x, bt, c, n, p, from, to, tileSize));
+        return result;
+    }
+
+    public DoubleMatrix multiply(DoubleMatrix a, DoubleMatrix b) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        int n = a.cols();
+        int p = b.cols();
+        double[] x = a.data();
+        double[] bt = b.transpose().data();
+        DoubleMatrix result = new DoubleMatrix(a.rows(), p);
+        double[] c = result.data();
+        run(a.rows(), (from, to) -> multiplyRows(x, bt, c, n, p, from, to, tileSize));
+        return result;
+    }
+
+    private void run(int rows, ParallelStrategy.RowKernel kernel) {
+        if (parallel == null) {
+            kernel.compute(0, rows);
+        } else {
+            parallel.run(rows, kernel);
+        }
+    }
+
+    // The kernels below are the same loop nest as BlockedStrategy.multiplyRows,
+    // one copy per element type.
+
+    static void multiplyRows(int[] a, int[] bt, long[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int k0 = 0; k0 < n; k0 += tile) {
+                    int kMax = Math.min(k0 + tile, n);
+                    for (int i = i0; i < iMax; i++) {
+                        int aRow = i * n;
+                        int cRow = i * p;
+                        for (int j = j0; j < jMax; j++) {
+                            int bRow = j * n;
+                            long sum = c[cRow + j];
+                            for (int k = k0; k < kMax; k++) {
+                                sum += (long) a[aRow + k] * bt[bRow + k];
+                            }
+                            c[cRow + j] = sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyRows(long[] a, long[] bt, long[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int k0 = 0; k0 < n; k0 += tile) {
+                    int kMax = Math.min(k0 + tile, n);
+                    for (int i = i0; i < iMax; i++) {
+                        int aRow = i * n;
+                        int cRow = i * p;
+                        for (int j = j0; j < jMax; j++) {
+                            int bRow = j * n;
+                            long sum = c[cRow + j];
+                            for (int k = k0; k < kMax; k++) {
+                                sum += a[aRow + k] * bt[bRow + k];
+                            }
+                            c[cRow + j] = sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyRows(float[] a, float[] bt, float[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int k0 = 0; k0 < n; k0 += tile) {
+                    int kMax = Math.min(k0 + tile, n);
+                    for (int i = i0; i < iMax; i++) {
+                        int aRow = i * n;
+                        int cRow = i * p;
+                        for (int j = j0; j < jMax; j++) {
+                            int bRow = j * n;
+                            float sum = c[cRow + j];
+                            for (int k = k0; k < kMax; k++) {
+                                sum += a[aRow + k] * bt[bRow + k];
+                            }
+                            c[cRow + j] = sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    static void multiplyRows(double[] a, double[] bt, double[] c, int n, int p,
+                             int rowFrom, int rowTo, int tile) {
+        for (int i0 = rowFrom; i0 < rowTo; i0 += tile) {
+            int iMax = Math.min(i0 + tile, rowTo);
+            for (int j0 = 0; j0 < p; j0 += tile) {
+                int jMax = Math.min(j0 + tile, p);
+                for (int k0 = 0; k0 < n; k0 += tile) {
+                    int kMax = Math.min(k0 + tile, n);
+                    for (int i = i0; i < iMax; i++) {
+                        int aRow = i * n;
+                        int cRow = i * p;
+                        for (int j = j0; j < jMax; j++) {
+                            int bRow = j * n;
+                            double sum = c[cRow + j];
+                            for (int k = k0; k < kMax; k++) {
+                                sum += a[aRow + k] * bt[bRow + k];
+                            }
+                            c[cRow + j] = sum;
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package matrixmul;
+
+/**
+ * Picks a sparse or dense kernel from the measured density of each operand.
+ *
+ * <ul>
+ *   <li>both sparse: CSR × CSR (Gustavson), then expanded</li>
+ *   <li>only A sparse: CSR × dense</li>
+ *   <li>only B sparse: dense × CSC</li>
+ *   <li>neither: the dense fallback strategy</li>
+ * </ul>
+ *
+ * An operand counts as sparse when its fraction of non-zeros is at most the
+ * threshold.
+ *
+ * <p>{@link #multiply(IntMatrix, IntMatrix)} has to measure dense operands and
+ * return a dense product. To keep memory and time proportional to the
+ * non-zeros, load each operand through {@link #operand(int, int)} instead. It
+ * stays in CSR unless it turns out to be dense while it is read.
+ * {@link #multiply(Operand, Operand)} then returns a CSR product when both
+ * operands are sparse.
+ */
+public final class SparseStrategy implements MultiplicationStrategy {
+
+    public static final double DEFAULT_DENSITY_THRESHOLD = 0.10;
+
+    private final double threshold;
+    private final MultiplicationStrategy dense;
+
+    public SparseStrategy() {
+        this(DEFAULT_DENSITY_THRESHOLD, new BlockedStrategy());
+    }
+
+    public SparseStrategy(double threshold, MultiplicationStrategy dense) {
+        if (threshold < 0 || threshold > 1) {
+            throw new IllegalArgumentException("Density threshold must be in [0, 1]: " + threshold);
+        }
+        this.threshold = threshold;
+        this.dense = dense;
+    }
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        boolean sparseA = density(a) <= threshold;
+        boolean sparseB = density(b) <= threshold;
+        if (sparseA && sparseB) {
+            return CsrMatrix.fromDense(a).multiply(CsrMatrix.fromDense(b)).toDense();
+        }
+        if (sparseA) {
+            return CsrMatrix.fromDense(a).multiply(b);
+        }
+        if (sparseB) {
+            return CscMatrix.fromDense(b).leftMultiply(a);
+        }
+        return dense.multiply(a, b);
+    }
+
+    public double threshold() {
+        return threshold;
+    }
+
+    /** An empty operand of the given shape, to be filled with {@link Operand#add(int)}. */
+    public Operand operand(int rows, int cols) {
+        return new Operand(rows, cols, (long) (threshold * rows * cols));
+    }
+
+    /** Like {@link #multiply(IntMatrix, IntMatrix)}, but the product of two sparse operands stays CSR. */
+    public Operand multiply(Operand a, Operand b) {
+        MatrixMultiplier.checkDimensions(a.cols(), b.rows());
+        if (a.isSparse() && b.isSparse()) {
+            return new Operand(a.sparse().multiply(b.sparse()));
+        }
+        if (a.isSparse()) {
+            return new Operand(a.sparse().multiply(b.dense()));
+        }
+        if (b.isSparse()) {
+            return new Operand(b.sparse().toCsc().leftMultiply(a.dense()));
+        }
+        return new Operand(dense.multiply(a.dense(), b.dense()));
+    }
+
+    /** Whether either operand is sparse enough for this strategy to beat a dense kernel. */
+    public boolean paysOff(IntMatrix a, IntMatrix b) {
+        return density(a) <= threshold || density(b) <= threshold;
+    }
+
+    /** Fraction of non-zero elements; an empty matrix counts as fully sparse. */
+    public static double density(IntMatrix matrix) {
+        int[] data = matrix.data();
+        if (data.length == 0) {
+            return 0;
+        }
+        long nnz = 0;
+        for (int v : data) {
+            if (v != 0) {
+                nnz++;
+            }
+        }
+        return (double) nnz / data.length;
+    }
+
+    @Override
+    public String name() {
+        return "sparse";
+    }
+
+    /**
+     * A matrix held as CSR while it is sparse and as an {@link IntMatrix}
+     * otherwise. An operand from {@link #operand(int, int)} is filled in row-major
+     * order by {@link #add(int)}. It starts out in CSR and switches to dense for
+     * good once its non-zeros exceed the threshold. A sparse operand therefore
+     * never costs m×n, and a dense one costs about what its dense form would.
+     */
+    public static final class Operand {
+
+        private final int rows;
+        private final int cols;
+        private final long limit;
+        private CsrMatrix.Builder builder;
+        private CsrMatrix sparse;
+        private IntMatrix dense;
+        private int next;
+
+        Operand(int rows, int cols, long limit) {
+            this.rows = rows;
+            this.cols = cols;
+            this.limit = limit;
+            this.builder = new CsrMatrix.Builder(rows, cols);
+        }
+
+        Operand(CsrMatrix sparse) {
+            this.rows = sparse.rows();
+            this.cols = sparse.cols();
+            this.limit = Long.MAX_VALUE;
+            this.sparse = sparse;
+        }
+
+        Operand(IntMatrix dense) {
+            this.rows = dense.rows();
+            this.cols = dense.cols();
+            this.limit = -1;
+            this.dense = dense;
+            this.next = dense.data().length;
+        }
+
+        /** Appends the next element in row-major order. */
+        public void add(int value) {
+            if (dense != null) {
+                if (next == dense.data().length) {
+                    throw new IllegalStateException("All elements of the " + rows + "×" + cols + " matrix were added");
+                }
+                dense.data()[next++] = value;
+                return;
+            }
+            if (builder == null) {
+                throw new IllegalStateException("Operand is already complete");
+            }
+            builder.add(value);
+            if (builder.nonZeros() > limit) {
+                dense = builder.toDense();
+                next = (int) builder.added();
+                builder = null;
+            }
+        }
+
+        public int rows() {
+            return rows;
+        }
+
+        public int cols() {
+            return cols;
+        }
+
+        /** Whether this matrix is held in CSR form. */
+        public boolean isSparse() {
+            return dense == null;
+        }
+
+        /** The CSR form; only for a sparse operand, and only once all its elements are added. */
+        public CsrMatrix sparse() {
+            if (sparse == null) {
+                if (builder == null) {
+                    throw new IllegalStateException("Operand is dense");
+                }
+                sparse = builder.build();
+                builder = null;
+            }
+            return sparse;
+        }
+
+        /** The dense form; only for an operand that is not sparse. */
+        public IntMatrix dense() {
+            if (dense == null) {
+                throw new IllegalStateException("Operand is sparse");
+            }
+            return dense;
+        }
+
+        public int get(int i, int j) {
+            return dense != null ? dense.get(i, j) : sparse().get(i, j);
+        }
+    }
+}
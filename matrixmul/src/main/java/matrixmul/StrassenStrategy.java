@@ -0,0 +1,280 @@
+package matrixmul;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+/**
+ * Strassen-Winograd recursion (7 products, 15 additions per level) over the
+ * blocked classical kernel.
+ *
+ * <p>Operands are zero-padded to a square of side {@code leaf × 2^levels}, where
+ * {@code leaf} is the first size at or below the crossover reached by halving
+ * the largest dimension. Only additions, subtractions and products are used, so
+ * int wrap-around yields exactly the same result as {@link NaiveStrategy}.
+ *
+ * <p>The recursion follows the two-temporary schedule of Boyer, Dumas, Pernet
+ * and Zhou: each level needs one h×h buffer for sums of A, one for sums of B,
+ * and reuses the quadrants of C for the products. These buffers, plus the leaf
+ * scratch space, are allocated once per thread and reused by every recursive
+ * call. A later multiplication reuses them when its padded size, level count
+ * and leaf size are all no larger; otherwise the thread's workspace grows to
+ * cover both.
+ *
+ * <p>Each thread's workspace is held through a {@link SoftReference}. An idle
+ * pool thread therefore keeps its largest workspace only until the collector
+ * needs the memory. {@link #release()} drops the calling thread's workspace
+ * straight away.
+ */
+public final class StrassenStrategy implements MultiplicationStrategy {
+
+    public static final int DEFAULT_CROSSOVER = 128;
+
+    private final int crossover;
+    private final int tileSize;
+    private final ThreadLocal<SoftReference<Workspace>> workspaces = new ThreadLocal<>();
+
+    public StrassenStrategy() {
+        this(DEFAULT_CROSSOVER, BlockedStrategy.DEFAULT_TILE_SIZE);
+    }
+
+    public StrassenStrategy(int crossover, int tileSize) {
+        if (crossover < 1) {
+            throw new IllegalArgumentException("Crossover must be positive: " + crossover);
+        }
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.crossover = crossover;
+        this.tileSize = tileSize;
+    }
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        int m = a.rows();
+        int n = a.cols();
+        int p = b.cols();
+        int dim = Math.max(m, Math.max(n, p));
+        if (dim <= crossover) {
+            return new BlockedStrategy(tileSize).multiply(a, b);
+        }
+
+        int levels = 0;
+        int leaf = dim;
+        while (leaf > crossover) {
+            leaf = (leaf + 1) >>> 1;
+            levels++;
+        }
+        int size = leaf << levels;
+        Workspace ws = workspace(size, levels, leaf);
+
+        IntMatrix result = new IntMatrix(m, p);
+        boolean exact = m == size && n == size && p == size;
+        int[] c = exact ? result.data() : new int[size * size];
+        multiply(new View(pad(a, size), 0, size), new View(pad(b, size), 0, size),
+            new View(c, 0, size), size, 0, ws);
+        if (!exact) {
+            for (int i = 0; i < m; i++) {
+                System.arraycopy(c, i * size, result.data(), i * p, p);
+            }
+        }
+        return result;
+    }
+
+    private void multiply(View a, View b, View c, int s, int level, Workspace ws) {
+        if (level == ws.activeLevels) {
+            leaf(a, b, c, s, ws);
+            return;
+        }
+        int h = s >>> 1;
+        View a11 = a.quadrant(0, 0);
+        View a12 = a.quadrant(0, h);
+        View a21 = a.quadrant(h, 0);
+        View a22 = a.quadrant(h, h);
+        View b11 = b.quadrant(0, 0);
+        View b12 = b.quadrant(0, h);
+        View b21 = b.quadrant(h, 0);
+        View b22 = b.quadrant(h, h);
+        View c11 = c.quadrant(0, 0);
+        View c12 = c.quadrant(0, h);
+        View c21 = c.quadrant(h, 0);
+        View c22 = c.quadrant(h, h);
+        View x = ws.x[level];
+        View y = ws.y[level];
+        int next = level + 1;
+
+        sub(a11, a21, x, h);                // S3
+        sub(b22, b12, y, h);                // T3
+        multiply(x, y, c21, h, next, ws);   // P7
+        add(a21, a22, x, h);                // S1
+        sub(b12, b11, y, h);                // T1
+        multiply(x, y, c22, h, next, ws);   // P5
+        sub(x, a11, x, h);                  // S2
+        sub(b22, y, y, h);                  // T2
+        multiply(x, y, c12, h, next, ws);   // P6
+        sub(a12, x, x, h);                  // S4
+        multiply(x, b22, c11, h, next, ws); // P3
+        multiply(a11, b11, x, h, next, ws); // P1
+        add(x, c12, c12, h);                // U2 = P1 + P6
+        add(c12, c21, c21, h);              // U3 = U2 + P7
+        add(c12, c22, c12, h);              // U4 = U2 + P5
+        add(c21, c22, c22, h);              // U7 = U3 + P5 -> C22
+        add(c12, c11, c12, h);              // U5 = U4 + P3 -> C12
+        sub(y, b21, y, h);                  // T4
+        multiply(a22, y, c11, h, next, ws); // P4
+        sub(c21, c11, c21, h);              // U6 = U3 - P4 -> C21
+        multiply(a12, b21, c11, h, next, ws); // P2
+        add(x, c11, c11, h);                // U1 = P1 + P2 -> C11
+    }
+
+    /** Copies the operands into contiguous scratch and runs the blocked kernel. */
+    private void leaf(View a, View b, View c, int s, Workspace ws) {
+        int[] la = ws.leafA;
+        int[] lbt = ws.leafBt;
+        int[] lc = ws.leafC;
+        for (int i = 0; i < s; i++) {
+            System.arraycopy(a.data, a.offset + i * a.stride, la, i * s, s);
+            int bRow = b.offset + i * b.stride;
+            for (int j = 0; j < s; j++) {
+                lbt[j * s + i] = b.data[bRow + j];
+            }
+        }
+        Arrays.fill(lc, 0, s * s, 0);
+        BlockedStrategy.multiplyRows(la, lbt, lc, s, s, 0, s, tileSize);
+        for (int i = 0; i < s; i++) {
+            System.arraycopy(lc, i * s, c.data, c.offset + i * c.stride, s);
+        }
+    }
+
+    private static void add(View x, View y, View out, int h) {
+        for (int i = 0; i < h; i++) {
+            int xi = x.offset + i * x.stride;
+            int yi = y.offset + i * y.stride;
+            int oi = out.offset + i * out.stride;
+            for (int j = 0; j < h; j++) {
+                out.data[oi + j] = x.data[xi + j] + y.data[yi + j];
+            }
+        }
+    }
+
+    private static void sub(View x, View y, View out, int h) {
+        for (int i = 0; i < h; i++) {
+            int xi = x.offset + i * x.stride;
+            int yi = y.offset + i * y.stride;
+            int oi = out.offset + i * out.stride;
+            for (int j = 0; j < h; j++) {
+                out.data[oi + j] = x.data[xi + j] - y.data[yi + j];
+            }
+        }
+    }
+
+    private static int[] pad(IntMatrix matrix, int size) {
+        if (matrix.rows() == size && matrix.cols() == size) {
+            return matrix.data();
+        }
+        int[] padded = new int[size * size];
+        for (int i = 0; i < matrix.rows(); i++) {
+            System.arraycopy(matrix.data(), i * matrix.cols(), padded, i * size, matrix.cols());
+        }
+        return padded;
+    }
+
+    private Workspace workspace(int size, int levels, int leaf) {
+        SoftReference<Workspace> ref = workspaces.get();
+        Workspace ws = ref != null ? ref.get() : null;
+        if (ws == null) {
+            ws = new Workspace(size, levels, leaf);
+            workspaces.set(new SoftReference<>(ws));
+        } else if (size > ws.size || levels > ws.levels || leaf > ws.leaf) {
+            ws = new Workspace(Math.max(size, ws.size), Math.max(levels, ws.levels), Math.max(leaf, ws.leaf));
+            workspaces.set(new SoftReference<>(ws));
+        }
+        ws.prepare(size, levels);
+        return ws;
+    }
+
+    /** Drops the calling thread's scratch buffers; the next multiplication on it allocates afresh. */
+    public void release() {
+        workspaces.remove();
+    }
+
+    /** Padded size covered by the calling thread's workspace, or 0 if it has none. */
+    int workspaceSize() {
+        SoftReference<Workspace> ref = workspaces.get();
+        Workspace ws = ref != null ? ref.get() : null;
+        return ws != null ? ws.size : 0;
+    }
+
+    @Override
+    public String name() {
+        return "strassen";
+    }
+
+    /** A square window into a row-major array. */
+    private static final class View {
+
+        final int[] data;
+        final int offset;
+        final int stride;
+
+        View(int[] data, int offset, int stride) {
+            this.data = data;
+            this.offset = offset;
+            this.stride = stride;
+        }
+
+        View quadrant(int row, int col) {
+            return new View(data, offset + row * stride + col, stride);
+        }
+    }
+
+    /**
+     * Per-level temporaries and leaf scratch, reused across the whole recursion.
+     * Level k holds {@code (size >> (k + 1))^2} ints, enough for that level of any
+     * multiplication whose padded size, levels and leaf are no larger.
+     */
+    private static final class Workspace {
+
+        final int size;
+        final int levels;
+        final int leaf;
+        final int[][] xData;
+        final int[][] yData;
+        final int[] leafA;
+        final int[] leafBt;
+        final int[] leafC;
+
+        // Views sized for the multiplication in progress; rebuilt only when the size changes
+        final View[] x;
+        final View[] y;
+        int activeLevels;
+
+        Workspace(int size, int levels, int leaf) {
+            this.size = size;
+            this.levels = levels;
+            this.leaf = leaf;
+            this.xData = new int[levels][];
+            this.yData = new int[levels][];
+            for (int level = 0; level < levels; level++) {
+                int h = size >>> (level + 1);
+                xData[level] = new int[h * h];
+                yData[level] = new int[h * h];
+            }
+            this.leafA = new int[leaf * leaf];
+            this.leafBt = new int[leaf * leaf];
+            this.leafC = new int[leaf * leaf];
+            this.x = new View[levels];
+            this.y = new View[levels];
+        }
+
+        void prepare(int size, int levels) {
+            for (int level = 0; level < levels; level++) {
+                int h = size >>> (level + 1);
+                if (x[level] == null || x[level].stride != h) {
+                    x[level] = new View(xData[level], 0, h);
+                    y[level] = new View(yData[level], 0, h);
+                }
+            }
+            activeLevels = levels;
+        }
+    }
+}
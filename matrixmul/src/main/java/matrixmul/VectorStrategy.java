@@ -0,0 +1,63 @@
+package matrixmul;
+
+/**
+ * SIMD kernel built on the incubating JDK Vector API.
+ *
+ * <p>B is transposed so each result element is a contiguous dot product that
+ * {@link IntVectorKernel} evaluates {@code lanes()} elements at a time. When the
+ * JVM was started without {@code --add-modules jdk.incubator.vector} the
+ * strategy falls back to the scalar {@link BlockedStrategy} kernel, so results
+ * are identical either way.
+ */
+public final class VectorStrategy implements MultiplicationStrategy {
+
+    private static final boolean VECTOR_API_AVAILABLE = detectVectorApi();
+
+    private final int tileSize;
+
+    public VectorStrategy() {
+        this(BlockedStrategy.DEFAULT_TILE_SIZE);
+    }
+
+    public VectorStrategy(int tileSize) {
+        if (tileSize < 1) {
+            throw new IllegalArgumentException("Tile size must be positive: " + tileSize);
+        }
+        this.tileSize = tileSize;
+    }
+
+    /** Whether the SIMD path is active in this JVM. */
+    public static boolean isVectorized() {
+        return VECTOR_API_AVAILABLE;
+    }
+
+    @Override
+    public IntMatrix multiply(IntMatrix a, IntMatrix b) {
+        IntMatrix result = new IntMatrix(a.rows(), b.cols());
+        int[] bt = b.transpose().data();
+        if (VECTOR_API_AVAILABLE) {
+            IntVectorKernel.multiplyRows(a.data(), bt, result.data(), a.cols(), b.cols(),
+                0, a.rows(), tileSize);
+        } else {
+            BlockedStrategy.multiplyRows(a.data(), bt, result.data(), a.cols(), b.cols(),
+                0, a.rows(), tileSize);
+        }
+        return result;
+    }
+
+    @Override
+    public String name() {
+        return "vector";
+    }
+
+    private static boolean detectVectorApi() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return IntVectorKernel.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package matrixmul;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MatrixMultiplierTest {
+
+    private static final int[][] A = {{1, 2, 3}, {4, 5, 6}};
+    private static final int[][] B = {{7, 8}, {9, 10}, {11, 12}};
+    private static final int[][] AB = {{58, 64}, {139, 154}};
+
+    static IntMatrix random(Random random, int rows, int cols) {
+        IntMatrix matrix = new IntMatrix(rows, cols);
+        int[] data = matrix.data();
+        for (int i = 0; i < data.length; i++) {
+            data[i] = random.nextInt();
+        }
+        return matrix;
+    }
+
+    static IntMatrix sparse(Random random, int rows, int cols, double density) {
+        IntMatrix matrix = new IntMatrix(rows, cols);
+        int[] data = matrix.data();
+        for (int i = 0; i < data.length; i++) {
+            if (random.nextDouble() < density) {
+                data[i] = random.nextInt(19) - 9;
+            }
+        }
+        return matrix;
+    }
+
+    static void assertMatchesNaive(MultiplicationStrategy strategy, int m, int n, int p) {
+        Random random = new Random(31L * m + 17L * n + p);
+        IntMatrix a = random(random, m, n);
+        IntMatrix b = random(random, n, p);
+        int[] expected = new NaiveStrategy().multiply(a, b).data();
+        assertArrayEquals(expected, strategy.multiply(a, b).data(),
+            strategy.name() + " differs from naive for " + m + "×" + n + " · " + n + "×" + p);
+    }
+
+    @Nested
+    @DisplayName("Engine Tests")
+    class EngineTests {
+        @Test
+        @DisplayName("Multiplying the README example")
+        void testReadmeExample() {
+            assertArrayEquals(AB, new MatrixMultiplier().multiply(A, B));
+        }
+
+        @Test
+        @DisplayName("Mismatched dimensions are rejected")
+        void testDimensionMismatch() {
+            Exception exception = assertThrows(IllegalArgumentException.class,
+                () -> new MatrixMultiplier().multiply(A, A));
+            assertEquals("Matrix Multiplication is not possible (M1 columns ≠ M2 rows).",
+                exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Blocked Kernel Tests")
+    class BlockedTests {
+        @Test
+        @DisplayName("Matches naive on ragged sizes, including int overflow")
+        void testMatchesNaive() {
+            for (int tile : new int[] {1, 3, 8, 64}) {
+                BlockedStrategy blocked = new BlockedStrategy(tile);
+                assertMatchesNaive(blocked, 1, 1, 1);
+                assertMatchesNaive(blocked, 17, 5, 33);
+                assertMatchesNaive(blocked, 70, 130, 65);
+            }
+        }
+
+        @Test
+        @DisplayName("Non-positive tile size is rejected")
+        void testInvalidTileSize() {
+            assertThrows(IllegalArgumentException.class, () -> new BlockedStrategy(0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Kernel Tests")
+    class ParallelTests {
+        @Test
+        @DisplayName("Matches naive above and below the sequential cutoff")
+        void testMatchesNaive() {
+            try (ParallelStrategy parallel = new ParallelStrategy(4, 8, 16)) {
+                assertMatchesNaive(parallel, 5, 9, 7);
+                assertMatchesNaive(parallel, 8, 9, 7);
+                assertMatchesNaive(parallel, 101, 40, 77);
+            }
+        }
+
+        @Test
+        @DisplayName("Selectable from the command line")
+        void testStrategyFromArgs() {
+            try (ParallelStrategy strategy = MatrixMultiplier.parallelStrategyFor(
+                    new String[] {"--strategy=parallel", "--parallelism=3"})) {
+                assertEquals("parallel", strategy.name());
+                assertEquals(3, strategy.parallelism());
+            }
+            assertNull(MatrixMultiplier.parallelStrategyFor(new String[] {"--strategy=blocked"}));
+        }
+
+        @Test
+        @DisplayName("Close shuts down an owned pool but not a caller's pool")
+        void testClose() {
+            ParallelStrategy owning = new ParallelStrategy(2, 8, 16);
+            owning.close();
+            assertThrows(RejectedExecutionException.class, () -> assertMatchesNaive(owning, 101, 40, 77));
+
+            ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                new ParallelStrategy(pool, 8, 16).close();
+                assertFalse(pool.isShutdown());
+            } finally {
+                pool.shutdown();
+            }
+            assertThrows(IllegalArgumentException.class, () -> new ParallelStrategy(null, 8, 16));
+        }
+    }
+
+    @Nested
+    @DisplayName("Vector Kernel Tests")
+    class VectorTests {
+        @Test
+        @DisplayName("Matches naive, including the scalar tail")
+        void testMatchesNaive() {
+            VectorStrategy vector = new VectorStrategy(16);
+            assertMatchesNaive(vector, 1, 1, 1);
+            assertMatchesNaive(vector, 9, 31, 5);
+            assertMatchesNaive(vector, 64, 67, 40);
+        }
+
+        @Test
+        @DisplayName("Surefire enables the Vector API module")
+        void testVectorized() {
+            assertTrue(VectorStrategy.isVectorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("Strassen Tests")
+    class StrassenTests {
+        @Test
+        @DisplayName("Matches naive on power-of-two and padded sizes")
+        void testMatchesNaive() {
+            StrassenStrategy strassen = new StrassenStrategy(8, 4);
+            assertMatchesNaive(strassen, 64, 64, 64);
+            assertMatchesNaive(strassen, 50, 50, 50);
+            assertMatchesNaive(strassen, 33, 47, 20);
+            assertMatchesNaive(strassen, 5, 5, 5);
+        }
+
+        @Test
+        @DisplayName("Reuses its workspace across calls")
+        void testRepeatedCalls() {
+            StrassenStrategy strassen = new StrassenStrategy(16, 8);
+            for (int i = 0; i < 3; i++) {
+                assertMatchesNaive(strassen, 100, 100, 100);
+            }
+        }
+
+        @Test
+        @DisplayName("Smaller inputs reuse the workspace, larger ones grow it, release drops it")
+        void testWorkspaceReuse() {
+            StrassenStrategy strassen = new StrassenStrategy(16, 8);
+            assertMatchesNaive(strassen, 100, 100, 100);    // leaf 13, 3 levels: size 104
+            assertEquals(104, strassen.workspaceSize());
+            assertMatchesNaive(strassen, 52, 33, 50);       // leaf 13, 2 levels: size 52
+            assertEquals(104, strassen.workspaceSize(), "Still fits in the first workspace");
+            assertMatchesNaive(strassen, 31, 31, 31);       // leaf 16, 1 level: larger leaf
+            assertEquals(104, strassen.workspaceSize(), "Grown to cover both sizes");
+            assertMatchesNaive(strassen, 130, 130, 130);    // leaf 9, 4 levels: size 144
+            assertEquals(144, strassen.workspaceSize());
+            assertMatchesNaive(strassen, 100, 100, 100);
+
+            strassen.release();
+            assertEquals(0, strassen.workspaceSize());
+            assertMatchesNaive(strassen, 50, 50, 50);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sparse Tests")
+    class SparseTests {
+        private final Random random = new Random(7);
+        private final NaiveStrategy naive = new NaiveStrategy();
+
+        @Test
+        @DisplayName("CSR and CSC round-trip through dense")
+        void testRoundTrip() {
+            IntMatrix m = sparse(random, 23, 41, 0.05);
+            assertArrayEquals(m.data(), CsrMatrix.fromDense(m).toDense().data());
+            assertArrayEquals(m.data(), CscMatrix.fromDense(m).toDense().data());
+            assertEquals(CsrMatrix.fromDense(m).nonZeros(), CscMatrix.fromDense(m).nonZeros());
+        }
+
+        @Test
+        @DisplayName("Sparse × sparse, sparse × dense and dense × sparse match naive")
+        void testKernelsMatchNaive() {
+            IntMatrix a = sparse(random, 60, 45, 0.04);
+            IntMatrix b = sparse(random, 45, 70, 0.04);
+            IntMatrix d = random(random, 45, 70);
+            IntMatrix e = random(random, 60, 45);
+            assertArrayEquals(naive.multiply(a, b).data(),
+                CsrMatrix.fromDense(a).multiply(CsrMatrix.fromDense(b)).toDense().data());
+            assertArrayEquals(naive.multiply(a, d).data(), CsrMatrix.fromDense(a).multiply(d).data());
+            assertArrayEquals(naive.multiply(e, b).data(), CscMatrix.fromDense(b).leftMultiply(e).data());
+        }
+
+        @Test
+        @DisplayName("Cancelled products are not stored")
+        void testCancellation() {
+            IntMatrix a = IntMatrix.of(new int[][] {{1, 1}});
+            IntMatrix b = IntMatrix.of(new int[][] {{2}, {-2}});
+            assertEquals(0, CsrMatrix.fromDense(a).multiply(CsrMatrix.fromDense(b)).nonZeros());
+        }
+
+        @Test
+        @DisplayName("CSR builder matches fromDense and expands a partial matrix")
+        void testBuilder() {
+            IntMatrix m = sparse(random, 17, 31, 0.1);
+            CsrMatrix.Builder builder = new CsrMatrix.Builder(17, 31);
+            for (int v : m.data()) {
+                assertFalse(builder.isComplete());
+                builder.add(v);
+            }
+            CsrMatrix csr = builder.build();
+            assertEquals(CsrMatrix.fromDense(m).nonZeros(), csr.nonZeros());
+            assertArrayEquals(m.data(), csr.toDense().data());
+            assertArrayEquals(m.data(), csr.toCsc().toDense().data());
+            for (int i = 0; i < 17; i++) {
+                for (int j = 0; j < 31; j++) {
+                    assertEquals(m.get(i, j), csr.get(i, j));
+                }
+            }
+            assertThrows(IllegalStateException.class, () -> builder.add(1));
+
+            CsrMatrix.Builder partial = new CsrMatrix.Builder(2, 3).add(0).add(5).add(0).add(7);
+            assertEquals(4, partial.added());
+            assertArrayEquals(new int[] {0, 5, 0, 7, 0, 0}, partial.toDense().data());
+            assertThrows(IllegalStateException.class, partial::build);
+        }
+
+        @Test
+        @DisplayName("Operands stay CSR until their non-zeros pass the threshold")
+        void testOperandLoading() {
+            SparseStrategy strategy = new SparseStrategy(0.10, new BlockedStrategy());
+            IntMatrix sparseA = sparse(random, 40, 50, 0.03);
+            IntMatrix sparseB = sparse(random, 50, 30, 0.03);
+            IntMatrix denseA = random(random, 40, 50);
+            IntMatrix denseB = random(random, 50, 30);
+            NaiveStrategy naive = new NaiveStrategy();
+            IntMatrix[][] pairs = {{sparseA, sparseB}, {sparseA, denseB}, {denseA, sparseB}, {denseA, denseB}};
+            for (IntMatrix[] pair : pairs) {
+                SparseStrategy.Operand a = load(strategy, pair[0]);
+                SparseStrategy.Operand b = load(strategy, pair[1]);
+                assertEquals(pair[0] == sparseA, a.isSparse());
+                assertEquals(pair[1] == sparseB, b.isSparse());
+                SparseStrategy.Operand c = strategy.multiply(a, b);
+                assertEquals(a.isSparse() && b.isSparse(), c.isSparse(), "Only a sparse × sparse product stays CSR");
+                IntMatrix expected = naive.multiply(pair[0], pair[1]);
+                for (int i = 0; i < expected.rows(); i++) {
+                    for (int j = 0; j < expected.cols(); j++) {
+                        assertEquals(expected.get(i, j), c.get(i, j));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("A large sparse operand is never expanded")
+        void testLargeSparseOperand() {
+            // Dense, each operand would be 400 MB
+            int n = 10_000;
+            SparseStrategy strategy = new SparseStrategy();
+            SparseStrategy.Operand a = strategy.operand(n, n);
+            SparseStrategy.Operand b = strategy.operand(n, n);
+            for (long e = 0; e < (long) n * n; e++) {
+                // A diagonal of 2s times a diagonal of 3s
+                boolean diagonal = e % (n + 1) == 0;
+                a.add(diagonal ? 2 : 0);
+                b.add(diagonal ? 3 : 0);
+            }
+            assertTrue(a.isSparse());
+            SparseStrategy.Operand c = strategy.multiply(a, b);
+            assertTrue(c.isSparse());
+            assertEquals(n, c.sparse().nonZeros());
+            assertEquals(6, c.get(n - 1, n - 1));
+            assertEquals(0, c.get(0, n - 1));
+        }
+
+        @Test
+        @DisplayName("Dense-interface sparse strategy matches naive")
+        void testDenseInterface() {
+            IntMatrix sparseA = sparse(random, 30, 30, 0.02);
+            IntMatrix dense = random(random, 30, 30);
+            assertTrue(new SparseStrategy().paysOff(sparseA, dense));
+            assertFalse(new SparseStrategy().paysOff(dense, dense));
+            assertMatchesNaive(new SparseStrategy(), 30, 30, 30);
+            assertArrayEquals(naive.multiply(sparseA, dense).data(),
+                new SparseStrategy().multiply(sparseA, dense).data());
+        }
+    }
+
+    static SparseStrategy.Operand load(SparseStrategy strategy, IntMatrix matrix) {
+        SparseStrategy.Operand operand = strategy.operand(matrix.rows(), matrix.cols());
+        for (int v : matrix.data()) {
+            operand.add(v);
+        }
+        return operand;
+    }
+
+    @Nested
+    @DisplayName("Mapped File Tests")
+    class MappedFileTests {
+        @TempDir
+        Path dir;
+
+        @Test
+        @DisplayName("Matrix files round-trip")
+        void testRoundTrip() throws IOException {
+            IntMatrix m = random(new Random(3), 13, 29);
+            Path file = dir.resolve("m.bin");
+            MatrixFile.write(file, m);
+            assertEquals(MatrixFile.HEADER_BYTES + 13 * 29 * 4, Files.size(file));
+            try (MatrixFile read = MatrixFile.open(file)) {
+                assertEquals(13, read.rows());
+                assertEquals(29, read.cols());
+                assertEquals(m.get(12, 28), read.get(12, 28));
+                assertArrayEquals(m.data(), read.read().data());
+            }
+        }
+
+        @Test
+        @DisplayName("Sparse matrix files are read into CSR and multiplied sparsely")
+        void testSparseFiles() throws IOException {
+            Random random = new Random(9);
+            IntMatrix a = sparse(random, 60, 45, 0.04);
+            IntMatrix b = sparse(random, 45, 50, 0.04);
+            IntMatrix dense = random(random, 45, 50);
+            MatrixFile.write(dir.resolve("a.bin"), a);
+            MatrixFile.write(dir.resolve("b.bin"), b);
+            MatrixFile.write(dir.resolve("dense.bin"), dense);
+            try (MatrixFile file = MatrixFile.open(dir.resolve("a.bin"))) {
+                assertArrayEquals(a.data(), CsrMatrix.read(file, 0.10).toDense().data());
+            }
+            try (MatrixFile file = MatrixFile.open(dir.resolve("dense.bin"))) {
+                assertNull(CsrMatrix.read(file, 0.10), "Too dense for CSR");
+            }
+
+            SparseStrategy strategy = new SparseStrategy();
+            assertTrue(MatrixMultiplier.multiplySparseFiles(strategy,
+                dir.resolve("a.bin"), dir.resolve("b.bin"), dir.resolve("c.bin")));
+            try (MatrixFile c = MatrixFile.open(dir.resolve("c.bin"))) {
+                assertArrayEquals(new NaiveStrategy().multiply(a, b).data(), c.read().data());
+            }
+            assertFalse(MatrixMultiplier.multiplySparseFiles(strategy,
+                dir.resolve("a.bin"), dir.resolve("dense.bin"), dir.resolve("d.bin")));
+            assertFalse(Files.exists(dir.resolve("d.bin")));
+        }
+
+        @Test
+        @DisplayName("Mapped multiply matches naive")
+        void testMultiply() throws IOException {
+            Random random = new Random(5);
+            IntMatrix a = random(random, 70, 33);
+            IntMatrix b = random(random, 33, 41);
+            MatrixFile.write(dir.resolve("a.bin"), a);
+            MatrixFile.write(dir.resolve("b.bin"), b);
+            new MappedMultiplier(8).multiply(dir.resolve("a.bin"), dir.resolve("b.bin"), dir.resolve("c.bin"));
+            try (MatrixFile c = MatrixFile.open(dir.resolve("c.bin"))) {
+                assertArrayEquals(new NaiveStrategy().multiply(a, b).data(), c.read().data());
+            }
+        }
+
+        @Test
+        @DisplayName("Out-of-core multiply matches naive with ragged panels")
+        void testOutOfCore() throws IOException {
+            Random random = new Random(11);
+            IntMatrix a = random(random, 45, 38);
+            IntMatrix b = random(random, 38, 29);
+            MatrixFile.write(dir.resolve("a.bin"), a);
+            MatrixFile.write(dir.resolve("b.bin"), b);
+            OutOfCoreMultiplier multiplier = new OutOfCoreMultiplier(16, 7, 10, 4);
+            multiplier.multiply(dir.resolve("a.bin"), dir.resolve("b.bin"), dir.resolve("c.bin"));
+            try (MatrixFile c = MatrixFile.open(dir.resolve("c.bin"))) {
+                assertArrayEquals(new NaiveStrategy().multiply(a, b).data(), c.read().data());
+            }
+        }
+
+        @Test
+        @DisplayName("Budget bounds the working set")
+        void testBudget() {
+            long budget = 8L << 20;
+            assertTrue(OutOfCoreMultiplier.withBudget(budget).workingSetBytes() <= budget);
+        }
+
+        @Test
+        @DisplayName("Files without the header are rejected")
+        void testBadMagic() throws IOException {
+            Path file = dir.resolve("bad.bin");
+            Files.write(file, new byte[64]);
+            assertThrows(IOException.class, () -> MatrixFile.open(file));
+        }
+    }
+
+    @Nested
+    @DisplayName("Primitive Type Tests")
+    class PrimitiveTypeTests {
+        private final Random random = new Random(13);
+        private final PrimitiveMultiplier blocked = new PrimitiveMultiplier(8);
+        private final PrimitiveMultiplier parallel =
+            new PrimitiveMultiplier(8, new ParallelStrategy(ForkJoinPool.commonPool(), 8, 8));
+
+        @Test
+        @DisplayName("Wide accumulator does not overflow")
+        void testWideNoOverflow() {
+            IntMatrix a = IntMatrix.of(new int[][] {{Integer.MAX_VALUE, Integer.MAX_VALUE}});
+            IntMatrix b = IntMatrix.of(new int[][] {{Integer.MAX_VALUE}, {Integer.MAX_VALUE}});
+            long expected = 2L * Integer.MAX_VALUE * Integer.MAX_VALUE;
+            assertEquals(expected, blocked.multiplyWide(a, b).get(0, 0));
+        }
+
+        @Test
+        @DisplayName("Wide accumulator wraps once the sum passes 2^63")
+        void testWideSumWraps() {
+            IntMatrix a = IntMatrix.of(new int[][] {{Integer.MIN_VALUE, Integer.MIN_VALUE}});
+            IntMatrix b = IntMatrix.of(new int[][] {{Integer.MIN_VALUE}, {Integer.MIN_VALUE}});
+            // 2^62 + 2^62 = 2^63 wraps to Long.MIN_VALUE
+            assertEquals(Long.MIN_VALUE, blocked.multiplyWide(a, b).get(0, 0));
+        }
+
+        @Test
+        @DisplayName("Wide and long kernels match a sequential long dot product")
+        void testLongKernels() {
+            IntMatrix a = random(random, 37, 29);
+            IntMatrix b = random(random, 29, 23);
+            LongMatrix la = new LongMatrix(37, 29);
+            LongMatrix lb = new LongMatrix(29, 23);
+            for (int i = 0; i < la.data().length; i++) {
+                la.data()[i] = a.data()[i];
+            }
+            for (int i = 0; i < lb.data().length; i++) {
+                lb.data()[i] = b.data()[i];
+            }
+            long[] expected = new long[37 * 23];
+            for (int i = 0; i < 37; i++) {
+                for (int j = 0; j < 23; j++) {
+                    for (int k = 0; k < 29; k++) {
+                        expected[i * 23 + j] += (long) a.get(i, k) * b.get(k, j);
+                    }
+                }
+            }
+            assertArrayEquals(expected, blocked.multiplyWide(a, b).data());
+            assertArrayEquals(expected, parallel.multiplyWide(a, b).data());
+            assertArrayEquals(expected, blocked.multiply(la, lb).data());
+            assertArrayEquals(expected, parallel.multiply(la, lb).data());
+        }
+
+        @Test
+        @DisplayName("Floating-point kernels keep sequential summation order")
+        void testFloatingPoint() {
+            DoubleMatrix a = new DoubleMatrix(41, 19);
+            DoubleMatrix b = new DoubleMatrix(19, 27);
+            for (int i = 0; i < a.data().length; i++) {
+                a.data()[i] = random.nextGaussian();
+            }
+            for (int i = 0; i < b.data().length; i++) {
+                b.data()[i] = random.nextGaussian();
+            }
+            double[] expected = new double[41 * 27];
+            float[] expectedFloat = new float[41 * 27];
+            FloatMatrix fa = new FloatMatrix(41, 19);
+            FloatMatrix fb = new FloatMatrix(19, 27);
+            for (int i = 0; i < a.data().length; i++) {
+                fa.data()[i] = (float) a.data()[i];
+            }
+            for (int i = 0; i < b.data().length; i++) {
+                fb.data()[i] = (float) b.data()[i];
+            }
+            for (int i = 0; i < 41; i++) {
+                for (int j = 0; j < 27; j++) {
+                    for (int k = 0; k < 19; k++) {
+                        expected[i * 27 + j] += a.get(i, k) * b.get(k, j);
+                        expectedFloat[i * 27 + j] += fa.get(i, k) * fb.get(k, j);
+                    }
+                }
+            }
+            assertArrayEquals(expected, blocked.multiply(a, b).data());
+            assertArrayEquals(expected, parallel.multiply(a, b).data());
+            assertArrayEquals(expectedFloat, blocked.multiply(fa, fb).data());
+            assertArrayEquals(expectedFloat, parallel.multiply(fa, fb).data());
+        }
+    }
+}
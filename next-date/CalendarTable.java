@@ -0,0 +1,161 @@
+/**
+ * Precomputed calendar for the 2000–2100 range that {@link NextDate} accepts,
+ * with allocation-free bulk date advancing.
+ *
+ * <p>Dates are handled in two int forms. A <em>packed</em> date is
+ * {@code year << 9 | month << 5 | day}. An <em>epoch day</em> is the number
+ * of days since 1 January 2000. The days-in-month, month-start and
+ * epoch-day-to-date tables are built once from
+ * {@link NextDate#getDaysInMonth}, so they follow exactly the same leap-year
+ * rule. Every conversion is a table lookup. A date that is invalid or would
+ * leave the range becomes {@link #OUT_OF_RANGE}, so a bulk call never throws
+ * halfway through an array.
+ */
+public final class CalendarTable {
+
+    public static final int FIRST_YEAR = 2000;
+    public static final int LAST_YEAR = 2100;
+    public static final int OUT_OF_RANGE = -1;
+
+    private static final int YEARS = LAST_YEAR - FIRST_YEAR + 1;
+
+    /** Days from 1 January 2000 to 31 December 2100 inclusive. */
+    public static final int DAYS;
+
+    // Indexed by (year - FIRST_YEAR) * 16 + month; unused slots hold 0
+    private static final byte[] DAYS_IN_MONTH = new byte[YEARS * 16];
+    // Epoch day of the first of each month, same indexing
+    private static final int[] MONTH_START = new int[YEARS * 16];
+    // Packed date of every epoch day
+    private static final int[] DATE_OF_DAY;
+
+    static {
+        int epochDay = 0;
+        for (int year = FIRST_YEAR; year <= LAST_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int slot = (year - FIRST_YEAR) * 16 + month;
+                DAYS_IN_MONTH[slot] = (byte) NextDate.getDaysInMonth(month, year);
+                MONTH_START[slot] = epochDay;
+                epochDay += DAYS_IN_MONTH[slot];
+            }
+        }
+        DAYS = epochDay;
+        DATE_OF_DAY = new int[DAYS];
+        for (int year = FIRST_YEAR, e = 0; year <= LAST_YEAR; year++) {
+            for (int month = 1; month <= 12; month++) {
+                int days = DAYS_IN_MONTH[(year - FIRST_YEAR) * 16 + month];
+                for (int day = 1; day <= days; day++) {
+                    DATE_OF_DAY[e++] = pack(day, month, year);
+                }
+            }
+        }
+    }
+
+    private CalendarTable() {
+    }
+
+    public static int pack(int day, int month, int year) {
+        return year << 9 | month << 5 | day;
+    }
+
+    public static int day(int packed) {
+        return packed & 0x1F;
+    }
+
+    public static int month(int packed) {
+        return packed >>> 5 & 0xF;
+    }
+
+    public static int year(int packed) {
+        return packed >>> 9;
+    }
+
+    /** Same rule as {@code NextDate.isValidDate}, without the messages. */
+    public static boolean isValid(int day, int month, int year) {
+        return year >= FIRST_YEAR && year <= LAST_YEAR && month >= 1 && month <= 12
+            && day >= 1 && day <= DAYS_IN_MONTH[(year - FIRST_YEAR) * 16 + month];
+    }
+
+    public static int daysInMonth(int month, int year) {
+        if (year < FIRST_YEAR || year > LAST_YEAR || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Month not in range: " + month + " " + year);
+        }
+        return DAYS_IN_MONTH[(year - FIRST_YEAR) * 16 + month];
+    }
+
+    /** Epoch day of a packed date, or {@link #OUT_OF_RANGE} if it is not a valid date. */
+    public static int toEpochDay(int packed) {
+        int day = packed & 0x1F;
+        int month = packed >>> 5 & 0xF;
+        int year = packed >>> 9;
+        if (packed < 0 || !isValid(day, month, year)) {
+            return OUT_OF_RANGE;
+        }
+        return MONTH_START[(year - FIRST_YEAR) * 16 + month] + day - 1;
+    }
+
+    /** Packed date of an epoch day, or {@link #OUT_OF_RANGE} outside 2000–2100. */
+    public static int fromEpochDay(int epochDay) {
+        return epochDay >= 0 && epochDay < DAYS ? DATE_OF_DAY[epochDay] : OUT_OF_RANGE;
+    }
+
+    /** Moves a packed date by {@code days}, which may be negative. */
+    public static int plusDays(int packed, int days) {
+        int epochDay = toEpochDay(packed);
+        if (epochDay == OUT_OF_RANGE) {
+            return OUT_OF_RANGE;
+        }
+        long target = (long) epochDay + days;
+        return target >= 0 && target < DAYS ? DATE_OF_DAY[(int) target] : OUT_OF_RANGE;
+    }
+
+    /** Replaces every packed date in {@code dates[from..to)} with the next day. */
+    public static void nextDay(int[] dates, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int packed = dates[i];
+            int day = packed & 0x1F;
+            int month = packed >>> 5 & 0xF;
+            int year = packed >>> 9;
+            if (packed < 0 || !isValid(day, month, year)) {
+                dates[i] = OUT_OF_RANGE;
+            } else if (day < DAYS_IN_MONTH[(year - FIRST_YEAR) * 16 + month]) {
+                dates[i] = packed + 1;
+            } else if (month < 12) {
+                dates[i] = pack(1, month + 1, year);
+            } else {
+                dates[i] = year < LAST_YEAR ? pack(1, 1, year + 1) : OUT_OF_RANGE;
+            }
+        }
+    }
+
+    /** Moves every packed date in {@code dates[from..to)} by {@code days}. */
+    public static void advance(int[] dates, int from, int to, int days) {
+        for (int i = from; i < to; i++) {
+            dates[i] = plusDays(dates[i], days);
+        }
+    }
+
+    /** Moves every epoch day in {@code epochDays[from..to)} by {@code days}. */
+    public static void advanceEpochDays(int[] epochDays, int from, int to, int days) {
+        for (int i = from; i < to; i++) {
+            int epochDay = epochDays[i];
+            long target = (long) epochDay + days;
+            epochDays[i] = epochDay >= 0 && epochDay < DAYS && target >= 0 && target < DAYS
+                ? (int) target : OUT_OF_RANGE;
+        }
+    }
+
+    /** Converts packed dates to epoch days; the two arrays may be the same. */
+    public static void toEpochDays(int[] packed, int[] epochDays, int from, int to) {
+        for (int i = from; i < to; i++) {
+            epochDays[i] = toEpochDay(packed[i]);
+        }
+    }
+
+    /** Converts epoch days to packed dates; the two arrays may be the same. */
+    public static void toPackedDates(int[] epochDays, int[] packed, int from, int to) {
+        for (int i = from; i < to; i++) {
+            packed[i] = fromEpochDay(epochDays[i]);
+        }
+    }
+}
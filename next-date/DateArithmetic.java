@@ -0,0 +1,120 @@
+/**
+ * Constant-time date arithmetic over the dense epoch-day index of
+ * {@link CalendarTable}: 0 is 1 January 2000 and {@code CalendarTable.DAYS - 1}
+ * is 31 December 2100.
+ *
+ * <p>Conversions between {@code (day, month, year)} and epoch days are table
+ * lookups in both directions. Differences and day-of-week are plain
+ * arithmetic on the index. Business-day stepping, Monday to Friday, uses two
+ * more tables: the count of business days before each epoch day, and the
+ * epoch day of each business day. Arguments outside the calendar throw
+ * {@link IllegalArgumentException}; a result that would fall outside it is
+ * {@link CalendarTable#OUT_OF_RANGE}.
+ */
+public final class DateArithmetic {
+
+    public static final int MONDAY = 1;
+    public static final int SATURDAY = 6;
+    public static final int SUNDAY = 7;
+
+    // 1 January 2000 was a Saturday
+    private static final int FIRST_DAY_OF_WEEK = SATURDAY;
+
+    // Business days strictly before each epoch day; one extra slot for DAYS
+    private static final int[] BUSINESS_BEFORE = new int[CalendarTable.DAYS + 1];
+    // Epoch day of the k-th business day
+    private static final int[] BUSINESS_DAY;
+
+    static {
+        int count = 0;
+        for (int e = 0; e < CalendarTable.DAYS; e++) {
+            BUSINESS_BEFORE[e] = count;
+            if (dayOfWeek(e) < SATURDAY) {
+                count++;
+            }
+        }
+        BUSINESS_BEFORE[CalendarTable.DAYS] = count;
+        BUSINESS_DAY = new int[count];
+        for (int e = 0, k = 0; e < CalendarTable.DAYS; e++) {
+            if (dayOfWeek(e) < SATURDAY) {
+                BUSINESS_DAY[k++] = e;
+            }
+        }
+    }
+
+    private DateArithmetic() {
+    }
+
+    /** Epoch day of a date; the date must pass {@code NextDate}'s validation. */
+    public static int epochDay(int day, int month, int year) {
+        if (!CalendarTable.isValid(day, month, year)) {
+            throw new IllegalArgumentException("Invalid date: " + day + " " + month + " " + year);
+        }
+        return CalendarTable.toEpochDay(CalendarTable.pack(day, month, year));
+    }
+
+    /** Packed date ({@code year << 9 | month << 5 | day}) of an epoch day. */
+    public static int date(int epochDay) {
+        check(epochDay);
+        return CalendarTable.fromEpochDay(epochDay);
+    }
+
+    /** Days from {@code from} to {@code to}; negative when {@code to} is earlier. */
+    public static int daysBetween(int from, int to) {
+        check(from);
+        check(to);
+        return to - from;
+    }
+
+    public static int plusDays(int epochDay, int days) {
+        check(epochDay);
+        long target = (long) epochDay + days;
+        return target >= 0 && target < CalendarTable.DAYS ? (int) target : CalendarTable.OUT_OF_RANGE;
+    }
+
+    /** ISO day of week: {@link #MONDAY} is 1, {@link #SUNDAY} is 7. */
+    public static int dayOfWeek(int epochDay) {
+        check(epochDay);
+        return (epochDay + FIRST_DAY_OF_WEEK - 1) % 7 + 1;
+    }
+
+    public static boolean isBusinessDay(int epochDay) {
+        check(epochDay);
+        return dayOfWeek(epochDay) < SATURDAY;
+    }
+
+    /** Business days in {@code [from, to)}; negative when {@code to} is earlier. */
+    public static int businessDaysBetween(int from, int to) {
+        check(from);
+        check(to);
+        return BUSINESS_BEFORE[to] - BUSINESS_BEFORE[from];
+    }
+
+    /**
+     * The {@code n}-th business day after {@code epochDay}, or before it when
+     * {@code n} is negative; {@code epochDay} itself need not be a business
+     * day. {@code n == 0} returns {@code epochDay} unchanged.
+     */
+    public static int plusBusinessDays(int epochDay, int n) {
+        check(epochDay);
+        long k;
+        if (n > 0) {
+            k = (long) BUSINESS_BEFORE[epochDay + 1] + n - 1;
+        } else if (n < 0) {
+            k = (long) BUSINESS_BEFORE[epochDay] + n;
+        } else {
+            return epochDay;
+        }
+        return k >= 0 && k < BUSINESS_DAY.length ? BUSINESS_DAY[(int) k] : CalendarTable.OUT_OF_RANGE;
+    }
+
+    public static int nextBusinessDay(int epochDay) {
+        return plusBusinessDays(epochDay, 1);
+    }
+
+    private static void check(int epochDay) {
+        if (epochDay < 0 || epochDay >= CalendarTable.DAYS) {
+            throw new IllegalArgumentException("Epoch day not in range 0–" + (CalendarTable.DAYS - 1) + ": " + epochDay);
+        }
+    }
+}
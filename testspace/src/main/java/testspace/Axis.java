@@ -0,0 +1,75 @@
+package testspace;
+
+import java.util.Arrays;
+
+/**
+ * One bounded int input, valid in {@code min..max}, and the values testing
+ * techniques draw from it.
+ */
+public final class Axis {
+
+    private final int min;
+    private final int max;
+
+    private Axis(int min, int max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public static Axis of(int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Empty range: " + min + ".." + max);
+        }
+        return new Axis(min, max);
+    }
+
+    public int min() {
+        return min;
+    }
+
+    public int max() {
+        return max;
+    }
+
+    public int nominal() {
+        return (int) (((long) min + max) / 2);
+    }
+
+    /** Robust boundary values: min-1, min, min+1, nominal, max-1, max, max+1. */
+    public int[] boundaryValues() {
+        return distinct(min - 1L, min, min + 1L, nominal(), max - 1L, max, max + 1L);
+    }
+
+    /**
+     * One representative per equivalence class: below the range, inside it
+     * and above it. The outer two sit a full range-width away from the
+     * boundary so they don't double as boundary values.
+     */
+    public int[] representatives() {
+        long width = (long) max - min + 1;
+        return distinct(min - width, nominal(), max + width);
+    }
+
+    /** Every value in {@code min-pad..max+pad}. */
+    public int[] range(int pad) {
+        long from = Math.max(Integer.MIN_VALUE, (long) min - pad);
+        long to = Math.min(Integer.MAX_VALUE, (long) max + pad);
+        if (to - from + 1 > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Range too large to enumerate: " + from + ".." + to);
+        }
+        int[] values = new int[(int) (to - from + 1)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (int) (from + i);
+        }
+        return values;
+    }
+
+    // Sorted, duplicates removed, clamped to int
+    private static int[] distinct(long... candidates) {
+        return Arrays.stream(candidates)
+            .map(v -> Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, v)))
+            .sorted().distinct()
+            .mapToInt(v -> (int) v)
+            .toArray();
+    }
+}
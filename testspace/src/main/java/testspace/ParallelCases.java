@@ -0,0 +1,108 @@
+package testspace;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DynamicTest;
+
+/**
+ * Runs a {@link TestSpace} across all cores and reports it as JUnit 5
+ * dynamic tests.
+ *
+ * <p>The space is cut into contiguous index chunks. Every chunk is submitted
+ * to the common {@link ForkJoinPool} as soon as the factory is called. The
+ * returned stream has one {@link DynamicTest} per chunk, which waits for its
+ * chunk and fails with the first few failing cases, then a final test that
+ * prints the case count and throughput. Return it from a
+ * {@code @TestFactory} method:
+ *
+ * <pre>{@code
+ * @TestFactory
+ * Stream<DynamicTest> exhaustive() {
+ *     return ParallelCases.dynamicTests("exhaustive", TestSpace.exhaustive(2, SIDE, SIDE, SIDE), Spec::check);
+ * }
+ * }</pre>
+ */
+public final class ParallelCases {
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int REPORTED_FAILURES = 10;
+
+    /** Checks one case; returns {@code null} when it passes, otherwise what went wrong. */
+    @FunctionalInterface
+    public interface Check {
+        String failure(int[] values);
+    }
+
+    private ParallelCases() {
+    }
+
+    public static Stream<DynamicTest> dynamicTests(String name, TestSpace space, Check check) {
+        return dynamicTests(name, space, check, ForkJoinPool.commonPool().getParallelism() * CHUNKS_PER_THREAD);
+    }
+
+    public static Stream<DynamicTest> dynamicTests(String name, TestSpace space, Check check, int chunks) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("Chunk count must be positive: " + chunks);
+        }
+        long size = space.size();
+        int n = (int) Math.max(1, Math.min(chunks, size));
+        long start = System.nanoTime();
+        List<CompletableFuture<Chunk>> futures = new ArrayList<>(n);
+        List<DynamicTest> tests = new ArrayList<>(n + 1);
+        for (int c = 0; c < n; c++) {
+            long from = size * c / n;
+            long to = size * (c + 1) / n;
+            CompletableFuture<Chunk> future = CompletableFuture.supplyAsync(
+                () -> run(space, check, from, to), ForkJoinPool.commonPool());
+            futures.add(future);
+            tests.add(DynamicTest.dynamicTest(name + " [" + from + ", " + to + ")", () -> {
+                Chunk chunk = future.join();
+                if (chunk.failures > 0) {
+                    fail(chunk.failures + " of " + (to - from) + " cases failed, first ones:\n"
+                        + String.join("\n", chunk.samples));
+                }
+            }));
+        }
+        tests.add(DynamicTest.dynamicTest(name + " throughput", () -> {
+            long finished = start;
+            long failures = 0;
+            for (CompletableFuture<Chunk> future : futures) {
+                Chunk chunk = future.join();
+                finished = Math.max(finished, chunk.finishedNanos);
+                failures += chunk.failures;
+            }
+            double seconds = Math.max(finished - start, 1) / 1e9;
+            System.out.printf("%s: %,d cases, %,d failed, %.1f ms on %d threads, %,.0f cases/s%n",
+                name, size, failures, seconds * 1e3, ForkJoinPool.commonPool().getParallelism(), size / seconds);
+        }));
+        return tests.stream();
+    }
+
+    private static Chunk run(TestSpace space, Check check, long from, long to) {
+        Chunk chunk = new Chunk();
+        int[] values = new int[space.arity()];
+        for (long i = from; i < to; i++) {
+            space.fill(i, values);
+            String failure = check.failure(values);
+            if (failure != null) {
+                if (chunk.failures++ < REPORTED_FAILURES) {
+                    chunk.samples.add(Arrays.toString(values) + ": " + failure);
+                }
+            }
+        }
+        chunk.finishedNanos = System.nanoTime();
+        return chunk;
+    }
+
+    private static final class Chunk {
+        long failures;
+        long finishedNanos;
+        final List<String> samples = new ArrayList<>();
+    }
+}
@@ -0,0 +1,39 @@
+package testspace;
+
+/** Cartesian product of per-input value lists, decoded as a mixed-radix index. */
+final class ProductSpace implements TestSpace {
+
+    private final int[][] values;
+    private final long size;
+
+    ProductSpace(int[][] values) {
+        long n = 1;
+        for (int[] axis : values) {
+            if (axis.length == 0) {
+                throw new IllegalArgumentException("Every input needs at least one value");
+            }
+            n = Math.multiplyExact(n, axis.length);
+        }
+        this.values = values.clone();
+        this.size = n;
+    }
+
+    @Override
+    public int arity() {
+        return values.length;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void fill(long index, int[] out) {
+        for (int i = values.length - 1; i >= 0; i--) {
+            int[] axis = values[i];
+            out[i] = axis[(int) (index % axis.length)];
+            index /= axis.length;
+        }
+    }
+}
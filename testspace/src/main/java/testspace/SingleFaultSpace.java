@@ -0,0 +1,49 @@
+package testspace;
+
+import java.util.Arrays;
+
+/** Nominal values everywhere except at most one input, which takes its boundary values. */
+final class SingleFaultSpace implements TestSpace {
+
+    private final int[] nominal;
+    // Boundary values of each input other than its nominal value
+    private final int[][] faults;
+    private final long size;
+
+    SingleFaultSpace(Axis[] axes) {
+        nominal = new int[axes.length];
+        faults = new int[axes.length][];
+        long n = 1;
+        for (int i = 0; i < axes.length; i++) {
+            int mid = axes[i].nominal();
+            nominal[i] = mid;
+            faults[i] = Arrays.stream(axes[i].boundaryValues()).filter(v -> v != mid).toArray();
+            n += faults[i].length;
+        }
+        size = n;
+    }
+
+    @Override
+    public int arity() {
+        return nominal.length;
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void fill(long index, int[] out) {
+        System.arraycopy(nominal, 0, out, 0, nominal.length);
+        // Index 0 is the all-nominal case
+        long rest = index - 1;
+        for (int i = 0; rest >= 0 && i < faults.length; i++) {
+            if (rest < faults[i].length) {
+                out[i] = faults[i][(int) rest];
+                return;
+            }
+            rest -= faults[i].length;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package testspace;
+
+/**
+ * An indexed, finite set of input tuples. Cases are produced on demand by
+ * {@link #fill}, so a space of millions of cases costs no memory and any
+ * index range can be handed to a different thread.
+ */
+public interface TestSpace {
+
+    /** Inputs per case. */
+    int arity();
+
+    /** Number of cases. */
+    long size();
+
+    /** Writes case {@code index}, {@code 0 <= index < size()}, into {@code values[0..arity())}. */
+    void fill(long index, int[] values);
+
+    /** Every combination of the given values, the last axis varying fastest. */
+    static TestSpace product(int[]... values) {
+        return new ProductSpace(values);
+    }
+
+    /** Every tuple with each input in {@code min-pad..max+pad}. */
+    static TestSpace exhaustive(int pad, Axis... axes) {
+        int[][] values = new int[axes.length][];
+        for (int i = 0; i < axes.length; i++) {
+            values[i] = axes[i].range(pad);
+        }
+        return product(values);
+    }
+
+    /**
+     * Robust boundary-value analysis: the all-nominal case, then each input
+     * in turn through its {@link Axis#boundaryValues()} while the others stay
+     * nominal.
+     */
+    static TestSpace boundaryValues(Axis... axes) {
+        return new SingleFaultSpace(axes);
+    }
+
+    /** Robust worst case: every combination of boundary values. */
+    static TestSpace worstCase(Axis... axes) {
+        int[][] values = new int[axes.length][];
+        for (int i = 0; i < axes.length; i++) {
+            values[i] = axes[i].boundaryValues();
+        }
+        return product(values);
+    }
+
+    /** Strong equivalence classes: every combination of class representatives. */
+    static TestSpace equivalenceClasses(Axis... axes) {
+        int[][] values = new int[axes.length][];
+        for (int i = 0; i < axes.length; i++) {
+            values[i] = axes[i].representatives();
+        }
+        return product(values);
+    }
+}
@@ -0,0 +1,157 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CalendarTable bulk API")
+class CalendarTableTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2000, 1, 1);
+    private static final LocalDate LAST = LocalDate.of(2100, 12, 31);
+    private static final int OUT = CalendarTable.OUT_OF_RANGE;
+
+    // Month ends, leap days, century years and the range ends, plus invalid packed dates
+    private static final int[] EDGES = {
+        pack(1, 1, 2000), pack(31, 1, 2000), pack(28, 2, 2000), pack(29, 2, 2000), pack(1, 3, 2000),
+        pack(28, 2, 2001), pack(30, 4, 2001), pack(31, 12, 2001), pack(29, 2, 2004), pack(28, 2, 2100),
+        pack(1, 3, 2100), pack(30, 12, 2100), pack(31, 12, 2100),
+        pack(29, 2, 2001), pack(29, 2, 2100), pack(31, 4, 2010), pack(0, 5, 2010), pack(1, 13, 2010),
+        pack(1, 0, 2010), pack(31, 12, 1999), pack(1, 1, 2101), 0, OUT, Integer.MIN_VALUE, Integer.MAX_VALUE,
+    };
+
+    private static int pack(int day, int month, int year) {
+        return CalendarTable.pack(day, month, year);
+    }
+
+    // The packed form of a LocalDate, or OUT_OF_RANGE outside 2000–2100
+    private static int packed(LocalDate date) {
+        return date.isBefore(FIRST) || date.isAfter(LAST)
+            ? OUT : pack(date.getDayOfMonth(), date.getMonthValue(), date.getYear());
+    }
+
+    // The LocalDate of a packed date, or null when it is not a valid 2000–2100 date
+    private static LocalDate date(int packed) {
+        int day = CalendarTable.day(packed);
+        int month = CalendarTable.month(packed);
+        int year = CalendarTable.year(packed);
+        return packed >= 0 && CalendarTable.isValid(day, month, year) ? LocalDate.of(year, month, day) : null;
+    }
+
+    // Every valid date of 2000–2100 in order, then the edge cases
+    private static int[] allDates() {
+        int[] dates = new int[CalendarTable.DAYS + EDGES.length];
+        LocalDate date = FIRST;
+        for (int i = 0; i < CalendarTable.DAYS; i++, date = date.plusDays(1)) {
+            dates[i] = packed(date);
+        }
+        System.arraycopy(EDGES, 0, dates, CalendarTable.DAYS, EDGES.length);
+        return dates;
+    }
+
+    private static int expectedPlus(int packed, long days) {
+        LocalDate date = date(packed);
+        if (date == null) {
+            return OUT;
+        }
+        long target = ChronoUnit.DAYS.between(FIRST, date) + days;
+        return target < 0 || target >= CalendarTable.DAYS ? OUT : packed(FIRST.plusDays(target));
+    }
+
+    @Test
+    @DisplayName("DAYS counts every day of 2000–2100")
+    void days() {
+        assertEquals(ChronoUnit.DAYS.between(FIRST, LAST) + 1, CalendarTable.DAYS);
+    }
+
+    @Test
+    @DisplayName("nextDay matches LocalDate.plusDays(1) for every date and leaves the rest of the array alone")
+    void nextDay() {
+        int[] dates = allDates();
+        int[] before = dates.clone();
+        CalendarTable.nextDay(dates, 1, dates.length - 1);
+        assertEquals(before[0], dates[0], "Before from");
+        assertEquals(before[before.length - 1], dates[dates.length - 1], "At to");
+        for (int i = 1; i < dates.length - 1; i++) {
+            int expected = expectedPlus(before[i], 1);
+            assertEquals(expected, dates[i], "Next day of " + Integer.toHexString(before[i]));
+        }
+        assertEquals(OUT, dates[CalendarTable.DAYS - 1], "31 December 2100 has no next day in range");
+    }
+
+    @Test
+    @DisplayName("advance matches LocalDate.plusDays across months, leap years and both range ends")
+    void advance() {
+        int[] offsets = {0, 1, -1, 28, 29, 59, 365, 366, -366, 1461, CalendarTable.DAYS - 1, -(CalendarTable.DAYS - 1),
+            CalendarTable.DAYS, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int days : offsets) {
+            int[] dates = allDates();
+            int[] before = dates.clone();
+            CalendarTable.advance(dates, 0, dates.length, days);
+            for (int i = 0; i < dates.length; i++) {
+                assertEquals(expectedPlus(before[i], days), dates[i],
+                    Integer.toHexString(before[i]) + " plus " + days);
+                assertEquals(dates[i], CalendarTable.plusDays(before[i], days));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("advanceEpochDays clamps to OUT_OF_RANGE and passes OUT_OF_RANGE through")
+    void advanceEpochDays() {
+        int last = CalendarTable.DAYS - 1;
+        int[] epochDays = {0, 1, 59, 60, 365, last - 1, last, OUT, CalendarTable.DAYS, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        int[] offsets = {0, 1, -1, 366, last, -last, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int days : offsets) {
+            int[] moved = epochDays.clone();
+            CalendarTable.advanceEpochDays(moved, 0, moved.length, days);
+            for (int i = 0; i < moved.length; i++) {
+                long target = (long) epochDays[i] + days;
+                boolean inRange = epochDays[i] >= 0 && epochDays[i] <= last && target >= 0 && target <= last;
+                assertEquals(inRange ? (int) target : OUT, moved[i], epochDays[i] + " plus " + days);
+            }
+        }
+        int[] partial = {5, 5, 5};
+        CalendarTable.advanceEpochDays(partial, 1, 2, 10);
+        assertArrayEquals(new int[] {5, 15, 5}, partial);
+    }
+
+    @Test
+    @DisplayName("toEpochDays and toPackedDates agree with LocalDate, in place and between arrays")
+    void conversions() {
+        int[] dates = allDates();
+        int[] epochDays = new int[dates.length];
+        CalendarTable.toEpochDays(dates, epochDays, 0, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            LocalDate date = date(dates[i]);
+            int expected = date == null ? OUT : (int) ChronoUnit.DAYS.between(FIRST, date);
+            assertEquals(expected, epochDays[i], Integer.toHexString(dates[i]));
+        }
+        for (int i = 0; i < CalendarTable.DAYS; i++) {
+            assertEquals(i, epochDays[i]);
+        }
+
+        int[] back = new int[dates.length];
+        CalendarTable.toPackedDates(epochDays, back, 0, dates.length);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(date(dates[i]) == null ? OUT : dates[i], back[i], "Round trip at " + i);
+        }
+
+        // Same array for input and output
+        int[] inPlace = dates.clone();
+        CalendarTable.toEpochDays(inPlace, inPlace, 0, inPlace.length);
+        assertArrayEquals(epochDays, inPlace);
+        CalendarTable.toPackedDates(inPlace, inPlace, 0, inPlace.length);
+        assertArrayEquals(back, inPlace);
+
+        int[] outside = {OUT, -2, CalendarTable.DAYS, Integer.MAX_VALUE};
+        int[] packed = new int[outside.length];
+        CalendarTable.toPackedDates(outside, packed, 0, outside.length);
+        int[] expected = new int[outside.length];
+        Arrays.fill(expected, OUT);
+        assertArrayEquals(expected, packed);
+    }
+}
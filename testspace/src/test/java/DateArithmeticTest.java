@@ -0,0 +1,139 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("DateArithmetic")
+class DateArithmeticTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2000, 1, 1);
+    private static final int LAST = CalendarTable.DAYS - 1;
+    private static final int OUT = CalendarTable.OUT_OF_RANGE;
+
+    // Two weeks at each end of the range and around a leap day, covering every day of the week
+    private static final int[] STARTS = starts();
+
+    private static int[] starts() {
+        int leapDay = epochDay(LocalDate.of(2024, 2, 29));
+        int[] starts = new int[42];
+        for (int i = 0; i < 14; i++) {
+            starts[i] = i;
+            starts[14 + i] = leapDay - 7 + i;
+            starts[28 + i] = LAST - i;
+        }
+        return starts;
+    }
+
+    private static int epochDay(LocalDate date) {
+        return (int) ChronoUnit.DAYS.between(FIRST, date);
+    }
+
+    private static LocalDate date(int epochDay) {
+        return FIRST.plusDays(epochDay);
+    }
+
+    private static boolean isWeekend(LocalDate date) {
+        return date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    // Steps one calendar day at a time, counting only Monday to Friday
+    private static int expectedPlusBusinessDays(int epochDay, int n) {
+        int step = Integer.signum(n);
+        int day = epochDay;
+        for (int remaining = Math.abs(n); remaining > 0; ) {
+            day += step;
+            if (day < 0 || day > LAST) {
+                return OUT;
+            }
+            if (!isWeekend(date(day))) {
+                remaining--;
+            }
+        }
+        return day;
+    }
+
+    private static int expectedBusinessDaysBetween(int from, int to) {
+        int count = 0;
+        for (int day = Math.min(from, to); day < Math.max(from, to); day++) {
+            if (!isWeekend(date(day))) {
+                count++;
+            }
+        }
+        return from <= to ? count : -count;
+    }
+
+    @Test
+    @DisplayName("dayOfWeek matches LocalDate for every day and rejects days outside the calendar")
+    void dayOfWeek() {
+        for (int day = 0; day <= LAST; day++) {
+            assertEquals(date(day).getDayOfWeek().getValue(), DateArithmetic.dayOfWeek(day));
+        }
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.dayOfWeek(-1));
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.dayOfWeek(CalendarTable.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.dayOfWeek(Integer.MIN_VALUE));
+    }
+
+    @Test
+    @DisplayName("daysBetween and plusDays match LocalDate, negative offsets included")
+    void days() {
+        int[] offsets = {0, 1, -1, 7, -7, 29, -29, 366, -366, LAST, -LAST, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int start : STARTS) {
+            for (int days : offsets) {
+                long target = (long) start + days;
+                int expected = target >= 0 && target <= LAST ? (int) target : OUT;
+                assertEquals(expected, DateArithmetic.plusDays(start, days), start + " plus " + days);
+                if (expected != OUT) {
+                    assertEquals(ChronoUnit.DAYS.between(date(start), date(expected)),
+                        DateArithmetic.daysBetween(start, expected));
+                    assertEquals(-days, DateArithmetic.daysBetween(expected, start));
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.daysBetween(0, CalendarTable.DAYS));
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.plusDays(-1, 1));
+    }
+
+    @Test
+    @DisplayName("plusBusinessDays skips weekends in both directions from weekday and weekend starts")
+    void plusBusinessDays() {
+        for (int start : STARTS) {
+            for (int n = -12; n <= 12; n++) {
+                assertEquals(expectedPlusBusinessDays(start, n), DateArithmetic.plusBusinessDays(start, n),
+                    date(start) + " (" + date(start).getDayOfWeek() + ") plus " + n + " business days");
+            }
+            for (int n : new int[] {261, -261, 26_000, -26_000, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+                int expected = Math.abs((long) n) > LAST ? OUT : expectedPlusBusinessDays(start, n);
+                assertEquals(expected, DateArithmetic.plusBusinessDays(start, n), date(start) + " plus " + n);
+            }
+        }
+
+        // Friday 7 January 2000, then the weekend: all step to Monday 10 January
+        int monday = epochDay(LocalDate.of(2000, 1, 10));
+        for (int day = monday - 3; day < monday; day++) {
+            assertEquals(monday, DateArithmetic.nextBusinessDay(day));
+        }
+        // Saturday and Sunday step back to Friday
+        assertEquals(monday - 3, DateArithmetic.plusBusinessDays(monday - 1, -1));
+        assertEquals(monday - 3, DateArithmetic.plusBusinessDays(monday - 2, -1));
+        assertEquals(monday - 1, DateArithmetic.plusBusinessDays(monday - 1, 0), "n = 0 keeps a weekend day");
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.plusBusinessDays(CalendarTable.DAYS, 1));
+    }
+
+    @Test
+    @DisplayName("businessDaysBetween counts Monday to Friday in [from, to), negative when reversed")
+    void businessDaysBetween() {
+        for (int from : STARTS) {
+            for (int to : STARTS) {
+                assertEquals(expectedBusinessDaysBetween(from, to), DateArithmetic.businessDaysBetween(from, to),
+                    date(from) + " to " + date(to));
+            }
+        }
+        // Saturday 1 January 2000 to Sunday 31 December 2100
+        assertEquals(expectedBusinessDaysBetween(0, LAST), DateArithmetic.businessDaysBetween(0, LAST));
+        assertThrows(IllegalArgumentException.class, () -> DateArithmetic.businessDaysBetween(-1, 0));
+    }
+}
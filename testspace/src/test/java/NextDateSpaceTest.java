@@ -0,0 +1,114 @@
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import testspace.Axis;
+import testspace.ParallelCases;
+import testspace.TestSpace;
+
+@DisplayName("NextDate Test Space")
+class NextDateSpaceTest {
+
+    private static final Axis DAY = Axis.of(1, 31);
+    private static final Axis MONTH = Axis.of(1, 12);
+    private static final Axis YEAR = Axis.of(2000, 2100);
+
+    @TestFactory
+    @DisplayName("Exhaustive: every (day, month, year), padded by 2")
+    Stream<DynamicTest> exhaustive() {
+        return ParallelCases.dynamicTests("next-date exhaustive", TestSpace.exhaustive(2, DAY, MONTH, YEAR),
+            NextDateSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Boundary values")
+    Stream<DynamicTest> boundaryValues() {
+        return ParallelCases.dynamicTests("next-date boundary", TestSpace.boundaryValues(DAY, MONTH, YEAR),
+            NextDateSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Worst-case boundary combinations")
+    Stream<DynamicTest> worstCase() {
+        return ParallelCases.dynamicTests("next-date worst case", TestSpace.worstCase(DAY, MONTH, YEAR),
+            NextDateSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Equivalence classes")
+    Stream<DynamicTest> equivalenceClasses() {
+        return ParallelCases.dynamicTests("next-date classes", TestSpace.equivalenceClasses(DAY, MONTH, YEAR),
+            NextDateSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Sweep: day -1..33, month -1..14, year 1..9999, each plus the int extremes")
+    Stream<DynamicTest> sweep() {
+        return ParallelCases.dynamicTests("next-date sweep",
+            TestSpace.product(withExtremes(-1, 33), withExtremes(-1, 14), withExtremes(1, 9999)),
+            NextDateSpaceTest::check);
+    }
+
+    // Consecutive values from..to followed by Integer.MIN_VALUE and Integer.MAX_VALUE
+    private static int[] withExtremes(int from, int to) {
+        int[] values = new int[to - from + 3];
+        for (int i = 0; from + i <= to; i++) {
+            values[i] = from + i;
+        }
+        values[values.length - 2] = Integer.MIN_VALUE;
+        values[values.length - 1] = Integer.MAX_VALUE;
+        return values;
+    }
+
+    // Checks validation, tomorrow and the calendar tables against java.time
+    private static String check(int[] date) {
+        int day = date[0];
+        int month = date[1];
+        int year = date[2];
+        LocalDate real = realDate(day, month, year);
+        boolean expected = real != null && year >= 2000 && year <= 2100;
+
+        if ((NextDate.validationError(day, month, year) == null) != expected) {
+            return "validationError: " + NextDate.validationError(day, month, year);
+        }
+        if (CalendarTable.isValid(day, month, year) != expected) {
+            return "CalendarTable.isValid disagrees";
+        }
+        if (real == null) {
+            return null;
+        }
+        LocalDate next = real.plusDays(1);
+        int[] tomorrow = NextDate.getNextDate(day, month, year);
+        if (tomorrow[0] != next.getDayOfMonth() || tomorrow[1] != next.getMonthValue() || tomorrow[2] != next.getYear()) {
+            return "getNextDate gave " + tomorrow[0] + " " + tomorrow[1] + " " + tomorrow[2] + ", expected " + next;
+        }
+        if (expected) {
+            int packed = CalendarTable.pack(day, month, year);
+            int expectedNext = next.getYear() <= 2100
+                ? CalendarTable.pack(next.getDayOfMonth(), next.getMonthValue(), next.getYear())
+                : CalendarTable.OUT_OF_RANGE;
+            if (CalendarTable.plusDays(packed, 1) != expectedNext) {
+                return "CalendarTable.plusDays disagrees";
+            }
+            int epochDay = DateArithmetic.epochDay(day, month, year);
+            if (epochDay != real.toEpochDay() - LocalDate.of(2000, 1, 1).toEpochDay()) {
+                return "DateArithmetic.epochDay gave " + epochDay;
+            }
+            if (DateArithmetic.dayOfWeek(epochDay) != real.getDayOfWeek().getValue()) {
+                return "DateArithmetic.dayOfWeek disagrees";
+            }
+        }
+        return null;
+    }
+
+    // The LocalDate for a triple, or null when it is not a real date or its next day is beyond LocalDate
+    private static LocalDate realDate(int day, int month, int year) {
+        if (month < 1 || month > 12 || year < Year.MIN_VALUE || year >= Year.MAX_VALUE || day < 1) {
+            return null;
+        }
+        LocalDate first = LocalDate.of(year, month, 1);
+        return day <= first.lengthOfMonth() ? first.withDayOfMonth(day) : null;
+    }
+}
@@ -0,0 +1,139 @@
+package commission;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ColumnFile and ColumnarBatch")
+class ColumnarBatchTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Int and double columns round-trip through their mappings")
+    void columnRoundTrip() throws IOException {
+        int[] ints = {7, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0, 42};
+        double[] doubles = {0.5, -0.0, Double.MAX_VALUE, Double.NaN, 1e-300};
+        Path intFile = dir.resolve("ints.col");
+        Path doubleFile = dir.resolve("doubles.col");
+        ColumnFile.writeInts(intFile, ints, 5);
+        ColumnFile.writeDoubles(doubleFile, doubles, doubles.length);
+
+        IntBuffer intColumn = ColumnFile.mapInts(intFile);
+        int[] readInts = new int[intColumn.limit()];
+        intColumn.get(readInts);
+        assertArrayEquals(Arrays.copyOf(ints, 5), readInts, "Only the first count values are stored");
+        assertEquals(ColumnFile.HEADER_BYTES + 5L * Integer.BYTES, Files.size(intFile));
+
+        DoubleBuffer doubleColumn = ColumnFile.mapDoubles(doubleFile);
+        double[] readDoubles = new double[doubleColumn.limit()];
+        doubleColumn.get(readDoubles);
+        assertArrayEquals(doubles, readDoubles);
+
+        Path empty = dir.resolve("empty.col");
+        ColumnFile.writeInts(empty, new int[0], 0);
+        assertEquals(0, ColumnFile.mapInts(empty).limit());
+    }
+
+    @Test
+    @DisplayName("Columnar batch gives the same totals as SalesLedger on the text orders")
+    void batchMatchesLedger() throws IOException {
+        Random random = new Random(5);
+        OrderColumns orders = new OrderColumns();
+        SalesLedger expected = new SalesLedger();
+        for (int i = 0; i < 50_000; i++) {
+            int id = random.nextInt(800);
+            int locks = random.nextInt(12);
+            int stocks = random.nextInt(12);
+            int barrels = random.nextInt(100);
+            orders.add(0, id, locks, stocks, barrels);
+            expected.record(id, locks, stocks, barrels);
+        }
+        Path ordersDir = dir.resolve("orders");
+        Path resultDir = dir.resolve("result");
+        ColumnarBatch.writeOrders(ordersDir, orders);
+        SalesLedger ledger = ColumnarBatch.recordAll(ordersDir, new SalesLedger());
+        ColumnarBatch.writeResults(resultDir, ledger);
+
+        assertEquals(expected.rejectedOutOfRange(), ledger.rejectedOutOfRange());
+        assertEquals(expected.rejectedOverTotal(), ledger.rejectedOverTotal());
+
+        // Rebuild the text report from the result columns
+        IntBuffer ids = ColumnFile.mapInts(resultDir.resolve(ColumnarBatch.SALESPERSON));
+        IntBuffer locks = ColumnFile.mapInts(resultDir.resolve(ColumnarBatch.LOCKS));
+        IntBuffer stocks = ColumnFile.mapInts(resultDir.resolve(ColumnarBatch.STOCKS));
+        IntBuffer barrels = ColumnFile.mapInts(resultDir.resolve(ColumnarBatch.BARRELS));
+        DoubleBuffer sales = ColumnFile.mapDoubles(resultDir.resolve(ColumnarBatch.SALES));
+        DoubleBuffer commission = ColumnFile.mapDoubles(resultDir.resolve(ColumnarBatch.COMMISSION));
+        StringBuilder fromColumns = new StringBuilder();
+        for (int row = 0; row < ids.limit(); row++) {
+            int id = ids.get(row);
+            SalesLedger.appendReportLine(fromColumns, id, locks.get(row), stocks.get(row), barrels.get(row));
+            assertEquals(expected.sales(id), sales.get(row));
+            assertEquals(expected.commission(id), commission.get(row));
+        }
+        StringWriter report = new StringWriter();
+        expected.writeReport(report);
+        assertEquals(report.toString(), fromColumns.toString());
+    }
+
+    @Test
+    @DisplayName("Truncated, foreign and mistyped files are rejected")
+    void badFiles() throws IOException {
+        Path good = dir.resolve("good.col");
+        ColumnFile.writeInts(good, new int[] {1, 2, 3, 4}, 4);
+        byte[] bytes = Files.readAllBytes(good);
+
+        Path truncated = dir.resolve("truncated.col");
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 1));
+        assertTrue(message(truncated).endsWith("is truncated"));
+
+        Path shortHeader = dir.resolve("short.col");
+        Files.write(shortHeader, Arrays.copyOf(bytes, ColumnFile.HEADER_BYTES - 1));
+        assertTrue(message(shortHeader).endsWith("is not a column file"));
+
+        byte[] foreign = bytes.clone();
+        foreign[0] = 'X';
+        Path badMagic = dir.resolve("magic.col");
+        Files.write(badMagic, foreign);
+        assertTrue(message(badMagic).endsWith("is not a column file"));
+
+        byte[] future = bytes.clone();
+        future[4] = 2;
+        Path badVersion = dir.resolve("version.col");
+        Files.write(badVersion, future);
+        assertTrue(message(badVersion).endsWith("is not a column file"));
+
+        assertThrows(IOException.class, () -> ColumnFile.mapDoubles(good), "An int column is not a double column");
+    }
+
+    @Test
+    @DisplayName("Order columns of different lengths are rejected")
+    void ragged() throws IOException {
+        OrderColumns orders = new OrderColumns();
+        orders.add(0, 1, 1, 1, 1);
+        orders.add(0, 2, 2, 2, 2);
+        Path ordersDir = dir.resolve("ragged");
+        ColumnarBatch.writeOrders(ordersDir, orders);
+        ColumnFile.writeInts(ordersDir.resolve(ColumnarBatch.BARRELS), new int[] {1}, 1);
+        assertThrows(IOException.class, () -> ColumnarBatch.recordAll(ordersDir, new SalesLedger()));
+    }
+
+    private static String message(Path file) {
+        return assertThrows(IOException.class, () -> ColumnFile.mapInts(file)).getMessage();
+    }
+}
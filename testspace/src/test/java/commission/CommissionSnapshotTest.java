@@ -0,0 +1,135 @@
+package commission;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import common.NumberTokenizer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("CommissionSnapshot")
+class CommissionSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Deltas applied to saved snapshots equal a full rebuild")
+    void deltasMatchFullRebuild() throws IOException {
+        Path snapshot = dir.resolve("month.snap");
+        assertEquals(0, CommissionSnapshot.load(snapshot).size(), "A missing snapshot starts empty");
+
+        Random random = new Random(21);
+        SalesLedger rebuilt = new SalesLedger();
+        for (int run = 0; run < 6; run++) {
+            StringBuilder delta = new StringBuilder();
+            for (int i = 0; i < (run == 0 ? 20_000 : 500); i++) {
+                int id = random.nextInt(run == 5 ? 3000 : 1000);   // the last delta adds new ids
+                int locks = random.nextInt(15);
+                int stocks = random.nextInt(15);
+                int barrels = random.nextInt(15);
+                delta.append(id).append(' ').append(locks).append(' ')
+                    .append(stocks).append(' ').append(barrels).append('\n');
+                rebuilt.record(id, locks, stocks, barrels);
+            }
+
+            SalesLedger ledger = CommissionSnapshot.load(snapshot);
+            BitSet affected = CommissionSnapshot.applyDelta(ledger, tokens(delta.toString()));
+            StringWriter lines = new StringWriter();
+            CommissionSnapshot.writeAffected(ledger, affected, lines);
+            assertEquals(affectedLines(rebuilt, affected), lines.toString(), "Recomputed lines after delta " + run);
+            CommissionSnapshot.save(ledger, snapshot);
+        }
+
+        SalesLedger loaded = CommissionSnapshot.load(snapshot);
+        assertEquals(report(rebuilt), report(loaded));
+        assertEquals(rebuilt.size(), loaded.size());
+        assertEquals(rebuilt.rejectedOutOfRange(), loaded.rejectedOutOfRange());
+        assertEquals(rebuilt.rejectedOverTotal(), loaded.rejectedOverTotal());
+        for (int id = 0; id < rebuilt.size(); id++) {
+            assertEquals(rebuilt.orders(id), loaded.orders(id), "orders of " + id);
+        }
+    }
+
+    @Test
+    @DisplayName("A failed save leaves the previous snapshot intact and no temporary file")
+    void failedSaveKeepsPrevious() throws IOException {
+        Path snapshot = dir.resolve("keep.snap");
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(1, 10, 10, 10);
+        CommissionSnapshot.save(ledger, snapshot);
+        byte[] before = Files.readAllBytes(snapshot);
+
+        ledger.record(2, 5, 5, 5);
+        // FileChannel is interruptible: the write fails with ClosedByInterruptException
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(IOException.class, () -> CommissionSnapshot.save(ledger, snapshot));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertArrayEquals(before, Files.readAllBytes(snapshot));
+        assertEquals(report(singleOrder()), report(CommissionSnapshot.load(snapshot)));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count(), "Temporary file left behind");
+        }
+    }
+
+    @Test
+    @DisplayName("Foreign and truncated snapshots are rejected")
+    void badSnapshots() throws IOException {
+        Path snapshot = dir.resolve("bad.snap");
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(3, 1, 1, 1);
+        CommissionSnapshot.save(ledger, snapshot);
+        byte[] bytes = Files.readAllBytes(snapshot);
+
+        Files.write(snapshot, Arrays.copyOf(bytes, bytes.length - 4));
+        assertThrows(IOException.class, () -> CommissionSnapshot.load(snapshot));
+
+        byte[] foreign = bytes.clone();
+        foreign[0] = 'X';
+        Files.write(snapshot, foreign);
+        assertThrows(IOException.class, () -> CommissionSnapshot.load(snapshot));
+
+        Files.write(snapshot, Arrays.copyOf(bytes, CommissionSnapshot.HEADER_BYTES - 1));
+        assertThrows(IOException.class, () -> CommissionSnapshot.load(snapshot));
+    }
+
+    private static SalesLedger singleOrder() {
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(1, 10, 10, 10);
+        return ledger;
+    }
+
+    private static NumberTokenizer tokens(String text) {
+        return new NumberTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static String affectedLines(SalesLedger ledger, BitSet affected) {
+        StringBuilder lines = new StringBuilder();
+        for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1)) {
+            SalesLedger.appendReportLine(lines, id, ledger.locks(id), ledger.stocks(id), ledger.barrels(id));
+        }
+        return lines.toString();
+    }
+
+    private static String report(SalesLedger ledger) throws IOException {
+        StringWriter out = new StringWriter();
+        ledger.writeReport(out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,229 @@
+package commission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ConcurrentSalesLedger under contention")
+class ConcurrentSalesLedgerTest {
+
+    private static final int THREADS = 8;
+    private static final int ORDERS_PER_THREAD = 20_000;
+    private static final int SPREAD = 50;
+
+    @Test
+    @DisplayName("One hot salesperson: caps hold at every instant and rejections add up")
+    void hotSalesperson() throws InterruptedException {
+        ConcurrentSalesLedger ledger = new ConcurrentSalesLedger(1);
+        int[][][] orders = randomOrders(new Random(1), 1);
+
+        // Watches the totals while the producers run
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> overCap = new AtomicReference<>();
+        Thread watcher = new Thread(() -> {
+            while (!done.get() && overCap.get() == null) {
+                int locks = ledger.locks(0);
+                int stocks = ledger.stocks(0);
+                int barrels = ledger.barrels(0);
+                if (locks > CommissionRules.MAX_LOCKS || stocks > CommissionRules.MAX_STOCKS
+                        || barrels > CommissionRules.MAX_BARRELS) {
+                    overCap.set(locks + " " + stocks + " " + barrels);
+                }
+            }
+        });
+        watcher.start();
+        Outcome outcome = run(ledger, orders);
+        done.set(true);
+        watcher.join();
+
+        assertNull(overCap.get(), "Totals seen above a cap");
+        assertConsistent(ledger, orders, outcome);
+    }
+
+    @Test
+    @DisplayName("Spread of salespeople: caps hold and rejections add up per salesperson")
+    void spreadOfSalespeople() throws InterruptedException {
+        ConcurrentSalesLedger ledger = new ConcurrentSalesLedger(SPREAD);
+        int[][][] orders = randomOrders(new Random(2), SPREAD);
+        assertConsistent(ledger, orders, run(ledger, orders));
+    }
+
+    @Test
+    @DisplayName("Final state equals the sequential SalesLedger, hot and spread")
+    void matchesSequential() throws IOException, InterruptedException {
+        // Quantities of 1 fill each cap whatever the interleaving, and 0 or cap + 1 is always
+        // out of range, so the sequential result is the only correct concurrent result
+        for (int salespeople : new int[] {1, SPREAD}) {
+            Random random = new Random(salespeople);
+            int[][][] orders = new int[THREADS][ORDERS_PER_THREAD / 10][];
+            for (int[][] thread : orders) {
+                for (int i = 0; i < thread.length; i++) {
+                    thread[i] = new int[] {random.nextInt(salespeople),
+                        unitOrInvalid(random, CommissionRules.MAX_LOCKS),
+                        unitOrInvalid(random, CommissionRules.MAX_STOCKS),
+                        unitOrInvalid(random, CommissionRules.MAX_BARRELS)};
+                }
+            }
+            ConcurrentSalesLedger ledger = new ConcurrentSalesLedger(salespeople);
+            run(ledger, orders);
+
+            SalesLedger sequential = new SalesLedger(salespeople);
+            for (int[][] thread : orders) {
+                for (int[] order : thread) {
+                    sequential.record(order[0], order[1], order[2], order[3]);
+                }
+            }
+            StringWriter expected = new StringWriter();
+            sequential.writeReport(expected);
+            StringWriter actual = new StringWriter();
+            ledger.writeReport(actual);
+            assertEquals(expected.toString(), actual.toString(), salespeople + " salespeople");
+            assertEquals(sequential.rejectedOutOfRange(), ledger.rejectedOutOfRange());
+            assertEquals(sequential.rejectedOverTotal(), ledger.rejectedOverTotal());
+            assertEquals(CommissionRules.MAX_LOCKS, ledger.locks(0), "Contended cap filled exactly");
+        }
+    }
+
+    /**
+     * Every salesperson's totals are within the caps and equal the items record() reported
+     * as accepted; out-of-range rejections match the input, and all other rejected items
+     * were counted as over a cap.
+     */
+    private static void assertConsistent(ConcurrentSalesLedger ledger, int[][][] orders, Outcome outcome) {
+        long acceptedItems = 0;
+        for (int id = 0; id < ledger.capacity(); id++) {
+            assertTrue(ledger.locks(id) <= CommissionRules.MAX_LOCKS, "locks of " + id);
+            assertTrue(ledger.stocks(id) <= CommissionRules.MAX_STOCKS, "stocks of " + id);
+            assertTrue(ledger.barrels(id) <= CommissionRules.MAX_BARRELS, "barrels of " + id);
+            assertEquals(outcome.accepted[id][0], ledger.locks(id), "accepted locks of " + id);
+            assertEquals(outcome.accepted[id][1], ledger.stocks(id), "accepted stocks of " + id);
+            assertEquals(outcome.accepted[id][2], ledger.barrels(id), "accepted barrels of " + id);
+            acceptedItems += outcome.accepted[id][3];
+        }
+        long items = 3L * THREADS * ORDERS_PER_THREAD;
+        long outOfRange = countOutOfRange(orders);
+        assertEquals(outOfRange, ledger.rejectedOutOfRange());
+        assertEquals(items - outOfRange - acceptedItems, ledger.rejectedOverTotal());
+        assertEquals(outcome.rejectedBits, ledger.rejectedOutOfRange() + ledger.rejectedOverTotal(),
+            "Rejection bits returned by record()");
+    }
+
+    /** Random orders, mostly small, some up to the cap and a few out of range, so every cap is hit. */
+    private static int[][][] randomOrders(Random random, int salespeople) {
+        int[][][] orders = new int[THREADS][ORDERS_PER_THREAD][];
+        for (int[][] thread : orders) {
+            for (int i = 0; i < thread.length; i++) {
+                thread[i] = new int[] {random.nextInt(salespeople), quantity(random, CommissionRules.MAX_LOCKS),
+                    quantity(random, CommissionRules.MAX_STOCKS), quantity(random, CommissionRules.MAX_BARRELS)};
+            }
+        }
+        return orders;
+    }
+
+    private static int quantity(Random random, int max) {
+        int roll = random.nextInt(20);
+        if (roll == 0) {
+            return random.nextBoolean() ? 0 : max + 1 + random.nextInt(5);
+        }
+        return 1 + random.nextInt(roll < 15 ? 3 : max);
+    }
+
+    private static int unitOrInvalid(Random random, int max) {
+        int roll = random.nextInt(10);
+        return roll == 0 ? 0 : roll == 1 ? max + 1 : 1;
+    }
+
+    private static long countOutOfRange(int[][][] orders) {
+        long count = 0;
+        for (int[][] thread : orders) {
+            for (int[] order : thread) {
+                count += outOfRange(order[1], CommissionRules.MAX_LOCKS)
+                    + outOfRange(order[2], CommissionRules.MAX_STOCKS)
+                    + outOfRange(order[3], CommissionRules.MAX_BARRELS);
+            }
+        }
+        return count;
+    }
+
+    private static int outOfRange(int quantity, int max) {
+        return quantity < 1 || quantity > max ? 1 : 0;
+    }
+
+    /** What the producers saw from record(). */
+    private static final class Outcome {
+        // Per salesperson: accepted locks, stocks, barrels and accepted item count
+        final long[][] accepted;
+        long rejectedBits;
+
+        Outcome(int salespeople) {
+            accepted = new long[salespeople][4];
+        }
+
+        void add(Outcome other) {
+            for (int id = 0; id < accepted.length; id++) {
+                for (int k = 0; k < 4; k++) {
+                    accepted[id][k] += other.accepted[id][k];
+                }
+            }
+            rejectedBits += other.rejectedBits;
+        }
+    }
+
+    /** Runs one producer thread per order list, all released together. */
+    private static Outcome run(ConcurrentSalesLedger ledger, int[][][] orders) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        List<Outcome> outcomes = new ArrayList<>();
+        for (int[][] mine : orders) {
+            Outcome outcome = new Outcome(ledger.capacity());
+            outcomes.add(outcome);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int[] order : mine) {
+                    int mask = ledger.record(order[0], order[1], order[2], order[3]);
+                    long[] accepted = outcome.accepted[order[0]];
+                    if ((mask & ConcurrentSalesLedger.LOCKS_REJECTED) == 0) {
+                        accepted[0] += order[1];
+                        accepted[3]++;
+                    }
+                    if ((mask & ConcurrentSalesLedger.STOCKS_REJECTED) == 0) {
+                        accepted[1] += order[2];
+                        accepted[3]++;
+                    }
+                    if ((mask & ConcurrentSalesLedger.BARRELS_REJECTED) == 0) {
+                        accepted[2] += order[3];
+                        accepted[3]++;
+                    }
+                    outcome.rejectedBits += Integer.bitCount(mask);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Outcome total = new Outcome(ledger.capacity());
+        for (Outcome outcome : outcomes) {
+            total.add(outcome);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,97 @@
+package commission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("MultiMonthCommission")
+class MultiMonthCommissionTest {
+
+    @Test
+    @DisplayName("Parallel report is byte-for-byte the sequential one on every pool size")
+    void parallelMatchesSequential() throws IOException {
+        // 36 months, sparse ids up to 5000, enough orders per partition to hit the caps
+        OrderColumns orders = orders(new Random(11), 200_000, 36, 400, 5000);
+        String expected = sequential(orders);
+        assertTrue(expected.split("\n").length > 10_000, "Many partitions, so the fold is split into tasks");
+
+        for (int parallelism : new int[] {1, 2, 3, 4, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                assertEquals(expected, parallel(orders, pool), "parallelism " + parallelism);
+            } finally {
+                pool.shutdown();
+            }
+        }
+        assertEquals(expected, parallel(orders, ForkJoinPool.commonPool()), "common pool");
+    }
+
+    @Test
+    @DisplayName("Small and degenerate inputs match as well")
+    void smallInputs() throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals("", parallel(new OrderColumns(), pool));
+            for (int n : new int[] {1, 2, 17, 300}) {
+                OrderColumns orders = orders(new Random(n), n, 3, 5, 5);
+                assertEquals(sequential(orders), parallel(orders, pool), n + " orders");
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Caps reset every month")
+    void capsResetMonthly() throws IOException {
+        OrderColumns orders = new OrderColumns();
+        orders.add(1, 0, 70, 80, 90);
+        orders.add(1, 0, 1, 1, 1);
+        orders.add(2, 0, 1, 1, 1);
+        String expected = "1 0 70 80 90 7800.0 1420.0\n2 0 1 1 1 100.0 10.0\n";
+        assertEquals(expected, sequential(orders));
+        assertEquals(expected, parallel(orders, ForkJoinPool.commonPool()));
+    }
+
+    /** Random orders over {@code active} of the ids below {@code maxId}, with some out of range. */
+    private static OrderColumns orders(Random random, int count, int months, int active, int maxId) {
+        int[] ids = new int[active];
+        for (int i = 0; i < active; i++) {
+            ids[i] = random.nextInt(maxId);
+        }
+        OrderColumns orders = new OrderColumns(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(random.nextInt(months), ids[random.nextInt(active)],
+                quantity(random, CommissionRules.MAX_LOCKS),
+                quantity(random, CommissionRules.MAX_STOCKS),
+                quantity(random, CommissionRules.MAX_BARRELS));
+        }
+        return orders;
+    }
+
+    private static int quantity(Random random, int max) {
+        int roll = random.nextInt(20);
+        if (roll == 0) {
+            return random.nextBoolean() ? 0 : max + 1;
+        }
+        return 1 + random.nextInt(roll < 12 ? 10 : max);
+    }
+
+    private static String sequential(OrderColumns orders) throws IOException {
+        StringWriter out = new StringWriter();
+        MultiMonthCommission.writeSequential(orders, out);
+        return out.toString();
+    }
+
+    private static String parallel(OrderColumns orders, ForkJoinPool pool) throws IOException {
+        StringWriter out = new StringWriter();
+        MultiMonthCommission.writeParallel(orders, pool, out);
+        return out.toString();
+    }
+}
@@ -0,0 +1,105 @@
+package commission;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import testspace.Axis;
+import testspace.ParallelCases;
+import testspace.TestSpace;
+
+@DisplayName("SalesCommission Test Space")
+class SalesCommissionSpaceTest {
+
+    private static final Axis LOCKS = Axis.of(1, CommissionRules.MAX_LOCKS);
+    private static final Axis STOCKS = Axis.of(1, CommissionRules.MAX_STOCKS);
+    private static final Axis BARRELS = Axis.of(1, CommissionRules.MAX_BARRELS);
+
+    private static final BigDecimal TIER_1 = BigDecimal.valueOf(1000);
+    private static final BigDecimal TIER_2 = BigDecimal.valueOf(1800);
+
+    @TestFactory
+    @DisplayName("Exhaustive: every order, padded by 1")
+    Stream<DynamicTest> exhaustive() {
+        return ParallelCases.dynamicTests("commission exhaustive", TestSpace.exhaustive(1, LOCKS, STOCKS, BARRELS),
+            SalesCommissionSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Boundary values")
+    Stream<DynamicTest> boundaryValues() {
+        return ParallelCases.dynamicTests("commission boundary", TestSpace.boundaryValues(LOCKS, STOCKS, BARRELS),
+            SalesCommissionSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Worst-case boundary combinations")
+    Stream<DynamicTest> worstCase() {
+        return ParallelCases.dynamicTests("commission worst case", TestSpace.worstCase(LOCKS, STOCKS, BARRELS),
+            SalesCommissionSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Equivalence classes")
+    Stream<DynamicTest> equivalenceClasses() {
+        return ParallelCases.dynamicTests("commission classes", TestSpace.equivalenceClasses(LOCKS, STOCKS, BARRELS),
+            SalesCommissionSpaceTest::check);
+    }
+
+    // Checks validation, sales and commission of one order against the specification
+    private static String check(int[] order) {
+        String failure = checkQuantity("locks", order[0], CommissionRules.MAX_LOCKS);
+        if (failure == null) {
+            failure = checkQuantity("stocks", order[1], CommissionRules.MAX_STOCKS);
+        }
+        if (failure == null) {
+            failure = checkQuantity("barrels", order[2], CommissionRules.MAX_BARRELS);
+        }
+        if (failure != null || !valid(order)) {
+            return failure;
+        }
+
+        int sales = 45 * order[0] + 30 * order[1] + 25 * order[2];
+        if (CommissionRules.sales(order[0], order[1], order[2]) != sales) {
+            return "sales gave " + CommissionRules.sales(order[0], order[1], order[2]) + ", expected " + sales;
+        }
+        double expected = expectedCommission(sales).doubleValue();
+        double actual = CommissionRules.commission(sales);
+        if (Math.abs(actual - expected) > 1e-9 * Math.max(1, expected)) {
+            return "commission gave " + actual + ", expected " + expected;
+        }
+        return null;
+    }
+
+    private static String checkQuantity(String item, int quantity, int max) {
+        boolean inRange = quantity >= 1 && quantity <= max;
+        int fresh = CommissionRules.check(quantity, 0, max);
+        if (fresh != (inRange ? CommissionRules.ACCEPTED : CommissionRules.OUT_OF_RANGE)) {
+            return item + " check on an empty month gave " + fresh;
+        }
+        // The same quantity one past what the month still allows
+        if (inRange && CommissionRules.check(quantity, max - quantity + 1, max) != CommissionRules.OVER_TOTAL) {
+            return item + " check did not catch the monthly cap";
+        }
+        return null;
+    }
+
+    private static boolean valid(int[] order) {
+        return order[0] >= 1 && order[0] <= CommissionRules.MAX_LOCKS
+            && order[1] >= 1 && order[1] <= CommissionRules.MAX_STOCKS
+            && order[2] >= 1 && order[2] <= CommissionRules.MAX_BARRELS;
+    }
+
+    private static BigDecimal expectedCommission(int sales) {
+        BigDecimal amount = BigDecimal.valueOf(sales);
+        BigDecimal commission = amount.min(TIER_1).multiply(new BigDecimal("0.10"));
+        if (amount.compareTo(TIER_1) > 0) {
+            commission = commission.add(amount.min(TIER_2).subtract(TIER_1).multiply(new BigDecimal("0.15")));
+        }
+        if (amount.compareTo(TIER_2) > 0) {
+            commission = commission.add(amount.subtract(TIER_2).multiply(new BigDecimal("0.20")));
+        }
+        return commission;
+    }
+}
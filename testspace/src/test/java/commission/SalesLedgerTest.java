@@ -0,0 +1,87 @@
+package commission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import common.NumberTokenizer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SalesLedger")
+class SalesLedgerTest {
+
+    @Test
+    @DisplayName("Monthly caps reject the item that would pass them, the rest of the order still counts")
+    void capsPerItem() {
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(3, 60, 80, 1);
+        ledger.record(3, 11, 1, 89);
+        ledger.record(3, 10, 0, 1);
+
+        assertEquals(70, ledger.locks(3));
+        assertEquals(80, ledger.stocks(3));
+        assertEquals(90, ledger.barrels(3));
+        assertEquals(3, ledger.orders(3));
+        assertEquals(3, ledger.rejectedOverTotal(), "11 locks, 1 stock and 1 barrel past their caps");
+        assertEquals(1, ledger.rejectedOutOfRange(), "0 stocks");
+    }
+
+    @Test
+    @DisplayName("Quantities outside 1..cap are rejected on their own")
+    void outOfRange() {
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(0, 0, 81, 5);
+        ledger.record(0, -1, 5, 91);
+        assertEquals(0, ledger.locks(0));
+        assertEquals(5, ledger.stocks(0));
+        assertEquals(5, ledger.barrels(0));
+        assertEquals(4, ledger.rejectedOutOfRange());
+        assertEquals(0, ledger.rejectedOverTotal());
+    }
+
+    @Test
+    @DisplayName("Report lists only salespeople with orders, in id order")
+    void report() throws IOException {
+        SalesLedger ledger = new SalesLedger(1);
+        ledger.recordAll(new NumberTokenizer(new ByteArrayInputStream(
+            "500 10 10 10\n2 1 1 1\n500 1 1 1\n".getBytes(StandardCharsets.US_ASCII))));
+
+        assertEquals(501, ledger.size());
+        assertTrue(ledger.hasOrders(2));
+        assertFalse(ledger.hasOrders(3));
+        assertFalse(ledger.hasOrders(10_000), "Ids past size() have no orders");
+
+        StringWriter out = new StringWriter();
+        ledger.writeReport(out);
+        assertEquals("2 1 1 1 100.0 10.0\n500 11 11 11 1100.0 115.0\n", out.toString());
+    }
+
+    @Test
+    @DisplayName("Ids above MAX_SALESPERSON_ID are rejected without growing the ledger")
+    void idBound() {
+        SalesLedger ledger = new SalesLedger();
+        ledger.record(SalesLedger.MAX_SALESPERSON_ID, 1, 1, 1);
+        assertEquals(SalesLedger.MAX_SALESPERSON_ID + 1, ledger.size());
+
+        for (int id : new int[] {-1, SalesLedger.MAX_SALESPERSON_ID + 1, 2_000_000_000, Integer.MAX_VALUE}) {
+            assertThrows(IllegalArgumentException.class, () -> ledger.record(id, 1, 1, 1), "id " + id);
+        }
+        assertEquals(SalesLedger.MAX_SALESPERSON_ID + 1, ledger.size());
+        assertEquals(1, ledger.orders(SalesLedger.MAX_SALESPERSON_ID));
+        assertEquals(0, ledger.rejectedOutOfRange() + ledger.rejectedOverTotal());
+    }
+
+    @Test
+    @DisplayName("A huge capacity hint is clamped to the id bound")
+    void capacityHint() {
+        SalesLedger ledger = new SalesLedger(Integer.MAX_VALUE);
+        ledger.record(7, 1, 1, 1);
+        assertEquals(8, ledger.size());
+    }
+}
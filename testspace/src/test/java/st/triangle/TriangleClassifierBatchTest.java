@@ -0,0 +1,129 @@
+package st.triangle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TriangleClassifier double batch")
+class TriangleClassifierBatchTest {
+
+    private static final double EPSILON = TriangleClassifier.DEFAULT_EPSILON;
+
+    @Test
+    @DisplayName("Runs on the Vector API under the module's surefire configuration")
+    void vectorized() {
+        // The pom adds jdk.incubator.vector to the test JVM; without it this suite would only test the fallback
+        assertTrue(TriangleClassifier.isVectorized(), "jdk.incubator.vector is not enabled for tests");
+        assertTrue(DoubleTriangleKernel.lanes() > 1);
+    }
+
+    @Test
+    @DisplayName("Batch equals scalar for every length and offset around the lane count")
+    void batchMatchesScalar() {
+        double[][] sides = sides(new Random(31), 4096);
+        int lanes = TriangleClassifier.isVectorized() ? DoubleTriangleKernel.lanes() : 4;
+        for (int from = 0; from <= lanes + 1; from++) {
+            for (int length = 0; length <= 4 * lanes + 3; length++) {
+                assertBatchMatchesScalar(sides, from, from + length, EPSILON);
+            }
+        }
+        assertBatchMatchesScalar(sides, 0, sides[0].length, EPSILON);
+        assertBatchMatchesScalar(sides, 3, sides[0].length - 2, EPSILON);
+        assertBatchMatchesScalar(sides, 1, sides[0].length - 1, 1e-3);
+        assertBatchMatchesScalar(sides, 0, sides[0].length - 5, 0);
+    }
+
+    @Test
+    @DisplayName("Kernel and scalar fallback agree directly, tail included")
+    void kernelMatchesFallback() {
+        if (!TriangleClassifier.isVectorized()) {
+            return;
+        }
+        double[][] sides = sides(new Random(32), 1000);
+        int to = sides[0].length - 3;    // 997: not a multiple of any lane count
+        byte[] vector = new byte[sides[0].length];
+        byte[] scalar = new byte[sides[0].length];
+        DoubleTriangleKernel.classify(sides[0], sides[1], sides[2], 1, to, EPSILON, vector);
+        TriangleClassifier.classifyScalar(sides[0], sides[1], sides[2], 1, to, EPSILON, scalar);
+        assertEquals(Arrays.toString(scalar), Arrays.toString(vector));
+    }
+
+    private static void assertBatchMatchesScalar(double[][] sides, int from, int to, double epsilon) {
+        byte[] codes = new byte[sides[0].length];
+        Arrays.fill(codes, (byte) -1);
+        TriangleClassifier.classify(sides[0], sides[1], sides[2], from, to, epsilon, codes);
+        for (int i = 0; i < codes.length; i++) {
+            byte expected = i >= from && i < to
+                ? TriangleClassifier.classify(sides[0][i], sides[1][i], sides[2][i], epsilon) : (byte) -1;
+            if (codes[i] != expected) {
+                assertEquals(expected, codes[i], "Element " + i + " of [" + from + ", " + to + ") with sides "
+                    + sides[0][i] + ", " + sides[1][i] + ", " + sides[2][i] + " and epsilon " + epsilon);
+            }
+        }
+    }
+
+    /**
+     * Hand-picked edge cases first, in every side order, then random triangles near
+     * the degenerate, equal-side and right-angle boundaries of {@link #EPSILON}.
+     */
+    private static double[][] sides(Random random, int count) {
+        List<double[]> cases = new ArrayList<>();
+        double eps = EPSILON;
+        double[][] edges = {
+            {3, 4, 5}, {5, 5, 5}, {5, 5, 8}, {2, 3, 4}, {1, 1, Math.sqrt(2)},
+            // Degenerate and just past it
+            {1, 2, 3}, {1, 1, 2}, {1, 1, 2 - eps}, {1, 1, 2 - 2 * eps}, {1, 1, 2 - 1.5 * eps},
+            {1, 1, Math.nextDown(2 - eps)}, {1, 1, Math.nextUp(2 - eps)},
+            // Equality within epsilon
+            {1, 1 + eps, 1}, {1, 1 + 2 * eps, 1}, {1, Math.nextUp(1 + eps), 1}, {1, Math.nextDown(1 + eps), 1},
+            // Right angle within epsilon: lo² + mid² - hi² over hi²
+            {3, 4, 5 * Math.sqrt(1 - eps)}, {3, 4, 5 * Math.sqrt(1 - 2 * eps)}, {3, 4, 5 * Math.sqrt(1 + 2 * eps)},
+            // Invalid ranges
+            {0, 1, 1}, {-1, 2, 2}, {-0.0, 1, 1}, {Double.NaN, 1, 1}, {1, Double.NaN, 1},
+            {Double.POSITIVE_INFINITY, 1, 1}, {Double.NEGATIVE_INFINITY, 1, 1},
+            // Extremes that would overflow or underflow squares
+            {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE}, {1e300, 1e300, 1.4e300},
+            {Double.MIN_VALUE, Double.MIN_VALUE, Double.MIN_VALUE}, {1e-310, 1e-310, 1.5e-310},
+            {1e-300, 1e300, 1e300},
+        };
+        for (double[] edge : edges) {
+            cases.add(new double[] {edge[0], edge[1], edge[2]});
+            cases.add(new double[] {edge[2], edge[0], edge[1]});
+            cases.add(new double[] {edge[1], edge[2], edge[0]});
+        }
+        while (cases.size() < count) {
+            double scale = Math.pow(10, random.nextInt(40) - 20);
+            double a = (1 + random.nextInt(100)) * scale;
+            double b = (1 + random.nextInt(100)) * scale;
+            double c;
+            switch (random.nextInt(4)) {
+                case 0:     // near degenerate
+                    c = (a + b) * (1 - (random.nextInt(5) - 2) * eps);
+                    break;
+                case 1:     // near right
+                    c = Math.sqrt(a * a + b * b) * (1 + (random.nextInt(5) - 2) * eps / 2);
+                    break;
+                case 2:     // near equal
+                    c = a * (1 + (random.nextInt(5) - 2) * eps);
+                    break;
+                default:
+                    c = (1 + random.nextInt(100)) * scale;
+                    break;
+            }
+            cases.add(new double[] {a, b, c});
+        }
+        double[][] columns = new double[3][count];
+        for (int i = 0; i < count; i++) {
+            for (int k = 0; k < 3; k++) {
+                columns[k][i] = cases.get(i)[k];
+            }
+        }
+        return columns;
+    }
+}
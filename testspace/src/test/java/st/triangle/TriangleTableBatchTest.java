@@ -0,0 +1,189 @@
+package st.triangle;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TriangleTable batch API")
+class TriangleTableBatchTest {
+
+    private static final byte UNTOUCHED = (byte) 0x7f;
+
+    // Every side in 1..10, the values just outside it and the extremes a byte or an int can hold
+    private static final int[] SIDE_VALUES = {
+        Integer.MIN_VALUE, Byte.MIN_VALUE, -1, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, Byte.MAX_VALUE, Integer.MAX_VALUE,
+    };
+
+    // Every combination of SIDE_VALUES as consecutive a, b, c ints
+    private static int[] allTriples() {
+        int n = SIDE_VALUES.length;
+        int[] sides = new int[3 * n * n * n];
+        int s = 0;
+        for (int a : SIDE_VALUES) {
+            for (int b : SIDE_VALUES) {
+                for (int c : SIDE_VALUES) {
+                    sides[s++] = a;
+                    sides[s++] = b;
+                    sides[s++] = c;
+                }
+            }
+        }
+        return sides;
+    }
+
+    // The outcome TriangleType reports for one triple
+    private static TriangleKind expected(int a, int b, int c) {
+        if (a < TriangleType.MIN_SIDE || a > TriangleType.MAX_SIDE || b < TriangleType.MIN_SIDE
+                || b > TriangleType.MAX_SIDE || c < TriangleType.MIN_SIDE || c > TriangleType.MAX_SIDE) {
+            return TriangleKind.INVALID_RANGE;
+        }
+        if (!TriangleType.isTriangle(a, b, c)) {
+            return TriangleKind.NOT_A_TRIANGLE;
+        }
+        String message = TriangleType.classifyTriangle(a, b, c);
+        for (TriangleKind kind : TriangleKind.values()) {
+            if (kind.message().equals(message)) {
+                return kind;
+            }
+        }
+        throw new AssertionError("Unknown classification: " + message);
+    }
+
+    private static void assertCodes(int[] sides, int from, byte[] codes, int codesFrom, int count) {
+        for (int t = 0; t < count; t++) {
+            int s = from + 3 * t;
+            assertEquals(expected(sides[s], sides[s + 1], sides[s + 2]), TriangleKind.fromCode(codes[codesFrom + t]),
+                sides[s] + " " + sides[s + 1] + " " + sides[s + 2]);
+        }
+    }
+
+    private static void assertUntouched(byte[] codes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            assertEquals(UNTOUCHED, codes[i], "Code " + i + " written outside the range");
+        }
+    }
+
+    private static byte[] untouched(int length) {
+        byte[] codes = new byte[length];
+        Arrays.fill(codes, UNTOUCHED);
+        return codes;
+    }
+
+    @Test
+    @DisplayName("int[] batch matches TriangleType triple by triple, out-of-range sides included")
+    void intArray() {
+        int[] sides = allTriples();
+        int count = sides.length / 3;
+        byte[] codes = untouched(count);
+        TriangleTable.classify(sides, 0, count, codes, 0);
+        assertCodes(sides, 0, codes, 0, count);
+
+        // Offset ranges leave everything around them alone
+        int from = 3 * 5;
+        int codesFrom = 7;
+        int part = count - 9;
+        byte[] offset = untouched(codesFrom + part + 4);
+        TriangleTable.classify(sides, from, part, offset, codesFrom);
+        assertCodes(sides, from, offset, codesFrom, part);
+        assertUntouched(offset, 0, codesFrom);
+        assertUntouched(offset, codesFrom + part, offset.length);
+
+        TriangleTable.classify(sides, sides.length, 0, offset, offset.length);
+    }
+
+    @Test
+    @DisplayName("int[] batch rejects ranges that do not fit before writing any code")
+    void intArrayLengthMismatch() {
+        int[] sides = {3, 4, 5, 1, 1, 1, 2, 2};
+        byte[] codes = untouched(4);
+        assertThrows(IndexOutOfBoundsException.class, () -> TriangleTable.classify(sides, 0, 3, codes, 0),
+            "Third triple is missing its last side");
+        assertThrows(IndexOutOfBoundsException.class, () -> TriangleTable.classify(sides, 3, 2, codes, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> TriangleTable.classify(sides, 0, 2, codes, 3),
+            "Room for one code");
+        assertThrows(IndexOutOfBoundsException.class, () -> TriangleTable.classify(sides, -3, 1, codes, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> TriangleTable.classify(sides, 0, -1, codes, 0));
+        assertThrows(IndexOutOfBoundsException.class,
+            () -> TriangleTable.classify(sides, 0, Integer.MAX_VALUE, codes, 0), "3 * count overflows an int");
+        assertUntouched(codes, 0, codes.length);
+
+        TriangleTable.classify(sides, 0, 2, codes, 2);
+        assertArrayEquals(new byte[] {UNTOUCHED, UNTOUCHED, TriangleKind.SCALENE.code(), TriangleKind.EQUILATERAL.code()},
+            codes);
+    }
+
+    @Test
+    @DisplayName("ByteBuffer batch matches TriangleType for every signed byte triple and advances both positions")
+    void byteBuffer() {
+        for (boolean direct : new boolean[] {false, true}) {
+            int count = 256 * 256 * 256;
+            ByteBuffer sides = direct ? ByteBuffer.allocateDirect(3 * count + 5) : ByteBuffer.allocate(3 * count + 5);
+            ByteBuffer codes = direct ? ByteBuffer.allocateDirect(count + 6) : ByteBuffer.allocate(count + 6);
+            sides.position(2);
+            for (int a = Byte.MIN_VALUE; a <= Byte.MAX_VALUE; a++) {
+                for (int b = Byte.MIN_VALUE; b <= Byte.MAX_VALUE; b++) {
+                    for (int c = Byte.MIN_VALUE; c <= Byte.MAX_VALUE; c++) {
+                        sides.put((byte) a).put((byte) b).put((byte) c);
+                    }
+                }
+            }
+            sides.limit(sides.position()).position(2);
+            for (int i = 0; i < codes.capacity(); i++) {
+                codes.put(i, UNTOUCHED);
+            }
+            codes.position(4);
+
+            TriangleTable.classify(sides, codes);
+
+            assertEquals(sides.limit(), sides.position(), "Sides position after the call");
+            assertEquals(4 + count, codes.position(), "Codes position after the call");
+            assertEquals(UNTOUCHED, codes.get(3));
+            assertEquals(UNTOUCHED, codes.get(4 + count));
+            for (int t = 0, s = 2; t < count; t++, s += 3) {
+                byte a = sides.get(s);
+                byte b = sides.get(s + 1);
+                byte c = sides.get(s + 2);
+                TriangleKind actual = TriangleKind.fromCode(codes.get(4 + t));
+                if (actual != expected(a, b, c)) {
+                    assertEquals(expected(a, b, c), actual, a + " " + b + " " + c + (direct ? " (direct)" : ""));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ByteBuffer batch rejects partial triples and short output without moving either position")
+    void byteBufferLengthMismatch() {
+        ByteBuffer sides = ByteBuffer.wrap(new byte[] {9, 3, 4, 5, 2, 2, 3, 1});
+        sides.position(1);
+        ByteBuffer codes = ByteBuffer.allocate(3);
+
+        assertThrows(IllegalArgumentException.class, () -> TriangleTable.classify(sides, codes), "7 bytes left");
+        assertEquals(1, sides.position());
+        assertEquals(0, codes.position());
+
+        sides.limit(7);
+        codes.position(2);
+        assertThrows(IllegalArgumentException.class, () -> TriangleTable.classify(sides, codes), "Room for one code");
+        assertEquals(1, sides.position());
+        assertEquals(2, codes.position());
+        assertEquals(0, codes.get(2));
+
+        codes.position(1);
+        TriangleTable.classify(sides, codes);
+        assertEquals(7, sides.position());
+        assertEquals(3, codes.position());
+        assertEquals(TriangleKind.SCALENE.code(), codes.get(1));
+        assertEquals(TriangleKind.ISOSCELES.code(), codes.get(2));
+
+        // Nothing left: nothing written, positions stay put
+        TriangleTable.classify(sides, codes);
+        assertEquals(7, sides.position());
+        assertEquals(3, codes.position());
+    }
+}
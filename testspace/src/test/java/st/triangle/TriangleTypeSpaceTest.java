@@ -0,0 +1,120 @@
+package st.triangle;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import testspace.Axis;
+import testspace.ParallelCases;
+import testspace.TestSpace;
+
+@DisplayName("TriangleType Test Space")
+class TriangleTypeSpaceTest {
+
+    private static final Axis SIDE = Axis.of(1, 10);
+
+    @TestFactory
+    @DisplayName("Exhaustive: every triple in 1..10, padded by 3")
+    Stream<DynamicTest> exhaustive() {
+        return ParallelCases.dynamicTests("triangle exhaustive", TestSpace.exhaustive(3, SIDE, SIDE, SIDE),
+            TriangleTypeSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Boundary values")
+    Stream<DynamicTest> boundaryValues() {
+        return ParallelCases.dynamicTests("triangle boundary", TestSpace.boundaryValues(SIDE, SIDE, SIDE),
+            TriangleTypeSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Worst-case boundary combinations")
+    Stream<DynamicTest> worstCase() {
+        return ParallelCases.dynamicTests("triangle worst case", TestSpace.worstCase(SIDE, SIDE, SIDE),
+            TriangleTypeSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Equivalence classes")
+    Stream<DynamicTest> equivalenceClasses() {
+        return ParallelCases.dynamicTests("triangle classes", TestSpace.equivalenceClasses(SIDE, SIDE, SIDE),
+            TriangleTypeSpaceTest::check);
+    }
+
+    @TestFactory
+    @DisplayName("Wide sides: every triple in 1..200")
+    Stream<DynamicTest> wideSides() {
+        Axis wide = Axis.of(1, 200);
+        return ParallelCases.dynamicTests("triangle wide", TestSpace.exhaustive(1, wide, wide, wide),
+            sides -> checkClassifier(sides, expectedShape(sides)));
+    }
+
+    // Checks every classifier against the specification for one triple
+    private static String check(int[] sides) {
+        int a = sides[0];
+        int b = sides[1];
+        int c = sides[2];
+        boolean inRange = a >= 1 && a <= 10 && b >= 1 && b <= 10 && c >= 1 && c <= 10;
+        TriangleKind shape = expectedShape(sides);
+        TriangleKind expected = inRange ? shape : TriangleKind.INVALID_RANGE;
+
+        if (TriangleTable.classify(a, b, c) != expected) {
+            return "TriangleTable gave " + TriangleTable.classify(a, b, c) + ", expected " + expected;
+        }
+        if (inRange) {
+            if (TriangleType.isTriangle(a, b, c) != (expected != TriangleKind.NOT_A_TRIANGLE)) {
+                return "isTriangle disagrees";
+            }
+            if (expected != TriangleKind.NOT_A_TRIANGLE
+                    && !TriangleType.classifyTriangle(a, b, c).equals(expected.message())) {
+                return "classifyTriangle gave " + TriangleType.classifyTriangle(a, b, c);
+            }
+        }
+        return checkClassifier(sides, shape);
+    }
+
+    private static String checkClassifier(int[] sides, TriangleKind shape) {
+        int a = sides[0];
+        int b = sides[1];
+        int c = sides[2];
+        TriangleKind wide = TriangleClassifier.kind(TriangleClassifier.classify((long) a, b, c));
+        if (wide != shape) {
+            return "TriangleClassifier(long) gave " + wide + ", expected " + shape;
+        }
+        AngleKind angle = expectedAngle(sides);
+        if (TriangleClassifier.angle(TriangleClassifier.classify((long) a, b, c)) != angle) {
+            return "TriangleClassifier(long) angle is not " + angle;
+        }
+        if (TriangleClassifier.classify((double) a, b, c) != TriangleClassifier.classify((long) a, b, c)) {
+            return "TriangleClassifier(double) disagrees with long";
+        }
+        return null;
+    }
+
+    // Classification ignoring the 1..10 cap
+    private static TriangleKind expectedShape(int[] sides) {
+        int[] s = sides.clone();
+        Arrays.sort(s);
+        if (s[0] <= 0) {
+            return TriangleKind.INVALID_RANGE;
+        }
+        if ((long) s[0] + s[1] <= s[2]) {
+            return TriangleKind.NOT_A_TRIANGLE;
+        }
+        if (s[0] == s[2]) {
+            return TriangleKind.EQUILATERAL;
+        }
+        return s[0] == s[1] || s[1] == s[2] ? TriangleKind.ISOSCELES : TriangleKind.SCALENE;
+    }
+
+    private static AngleKind expectedAngle(int[] sides) {
+        TriangleKind shape = expectedShape(sides);
+        if (shape == TriangleKind.INVALID_RANGE || shape == TriangleKind.NOT_A_TRIANGLE) {
+            return AngleKind.NONE;
+        }
+        long[] s = Arrays.stream(sides).asLongStream().sorted().toArray();
+        long excess = s[0] * s[0] + s[1] * s[1] - s[2] * s[2];
+        return excess > 0 ? AngleKind.ACUTE : excess == 0 ? AngleKind.RIGHT : AngleKind.OBTUSE;
+    }
+}
@@ -0,0 +1,22 @@
+package st.triangle;
+
+/** Largest angle of a triangle; {@link #NONE} when the sides do not form one. */
+public enum AngleKind {
+    NONE,
+    ACUTE,
+    RIGHT,
+    OBTUSE;
+
+    private static final AngleKind[] BY_CODE = values();
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    public static AngleKind fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown angle code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
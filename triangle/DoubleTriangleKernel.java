@@ -0,0 +1,65 @@
+package st.triangle;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API version of {@link TriangleClassifier#classify(double, double, double, double)}.
+ * Only loaded once {@link TriangleClassifier} has confirmed that
+ * {@code jdk.incubator.vector} is resolved.
+ */
+final class DoubleTriangleKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_64;
+    // Only the first SPECIES.length() byte lanes hold codes
+    private static final VectorMask<Byte> CODE_LANES = BYTES.indexInRange(0, SPECIES.length());
+
+    private DoubleTriangleKernel() {
+    }
+
+    static int lanes() {
+        return SPECIES.length();
+    }
+
+    static void classify(double[] a, double[] b, double[] c, int from, int to, double epsilon, byte[] codes) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        DoubleVector eps = DoubleVector.broadcast(SPECIES, epsilon);
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int lanes = SPECIES.length();
+        int i = from;
+        for (; i <= to - lanes; i += lanes) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            DoubleVector vc = DoubleVector.fromArray(SPECIES, c, i);
+            DoubleVector lo = va.min(vb.min(vc));
+            DoubleVector hi = va.max(vb.max(vc));
+            DoubleVector mid = va.min(vb).max(va.max(vb).min(vc));
+
+            VectorMask<Double> valid = lo.compare(VectorOperators.GT, zero)
+                .and(hi.compare(VectorOperators.LT, Double.POSITIVE_INFINITY));
+            DoubleVector x = lo.div(hi);
+            DoubleVector y = mid.div(hi);
+            VectorMask<Double> triangle = valid.and(x.add(y).sub(one).compare(VectorOperators.GT, eps));
+
+            // SCALENE minus one for each pair of equal sides
+            DoubleVector kind = DoubleVector.broadcast(SPECIES, TriangleClassifier.SCALENE)
+                .sub(one, y.sub(x).compare(VectorOperators.LE, eps))
+                .sub(one, one.sub(y).compare(VectorOperators.LE, eps));
+            DoubleVector excess = x.mul(x).add(y.mul(y)).sub(one);
+            DoubleVector angle = DoubleVector.broadcast(SPECIES, AngleKind.RIGHT.code())
+                .blend(AngleKind.ACUTE.code(), excess.compare(VectorOperators.GT, eps))
+                .blend(AngleKind.OBTUSE.code(), excess.compare(VectorOperators.LT, eps.neg()));
+            DoubleVector code = DoubleVector.broadcast(SPECIES, TriangleClassifier.INVALID)
+                .blend(TriangleClassifier.NOT_A_TRIANGLE, valid)
+                .blend(kind.add(angle.mul(1 << TriangleClassifier.ANGLE_SHIFT)), triangle);
+
+            ((ByteVector) code.convertShape(VectorOperators.D2B, BYTES, 0)).intoArray(codes, i, CODE_LANES);
+        }
+        // Scalar tail for the last (to - from) % lanes triangles
+        TriangleClassifier.classifyScalar(a, b, c, i, to, epsilon, codes);
+    }
+}
@@ -0,0 +1,133 @@
+package st.triangle;
+
+/**
+ * Triangle classification for {@code long} and {@code double} sides with no
+ * upper bound: equilateral/isosceles/scalene and acute/right/obtuse.
+ *
+ * <p>A result is one byte: the {@link TriangleKind} code in bits 0-2 and the
+ * {@link AngleKind} code in bits 3-4. Non-positive, NaN or infinite sides give
+ * {@link TriangleKind#INVALID_RANGE}; sides that fail the triangle inequality
+ * give {@link TriangleKind#NOT_A_TRIANGLE} with {@link AngleKind#NONE}.
+ *
+ * <p>Sides are sorted with min/max so that {@code lo <= mid <= hi}. The
+ * inequality is then tested as {@code lo > hi - mid}, which cannot overflow.
+ * For {@code long} sides, {@code lo² + mid²} and {@code hi²} are compared
+ * exactly in 128-bit arithmetic. For {@code double} sides, {@code lo} and
+ * {@code mid} are divided by {@code hi} first, so no square can overflow. Side
+ * equality, degeneracy and right angles are then judged within a relative
+ * {@code epsilon}. The array batch for doubles runs on the Vector API when
+ * {@code jdk.incubator.vector} is available; it falls back to the scalar
+ * kernel otherwise, with identical results.
+ */
+public final class TriangleClassifier {
+
+    public static final double DEFAULT_EPSILON = 1e-9;
+
+    static final int ANGLE_SHIFT = 3;
+    private static final int KIND_MASK = (1 << ANGLE_SHIFT) - 1;
+
+    static final byte INVALID = TriangleKind.INVALID_RANGE.code();
+    static final byte NOT_A_TRIANGLE = TriangleKind.NOT_A_TRIANGLE.code();
+    // EQUILATERAL, ISOSCELES and SCALENE are consecutive codes: SCALENE minus the number of equal pairs
+    static final int SCALENE = TriangleKind.SCALENE.code();
+    static final int RIGHT = AngleKind.RIGHT.code();
+
+    private static final boolean VECTOR_API_AVAILABLE = detectVectorApi();
+
+    private TriangleClassifier() {
+    }
+
+    /** Whether the double batch runs on the Vector API in this JVM. */
+    public static boolean isVectorized() {
+        return VECTOR_API_AVAILABLE;
+    }
+
+    public static TriangleKind kind(byte code) {
+        return TriangleKind.fromCode((byte) (code & KIND_MASK));
+    }
+
+    public static AngleKind angle(byte code) {
+        return AngleKind.fromCode(code >>> ANGLE_SHIFT);
+    }
+
+    static byte code(int kind, int angle) {
+        return (byte) (kind | angle << ANGLE_SHIFT);
+    }
+
+    public static byte classify(long a, long b, long c) {
+        long lo = Math.min(a, Math.min(b, c));
+        long hi = Math.max(a, Math.max(b, c));
+        long mid = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        if (lo <= 0) {
+            return INVALID;
+        }
+        if (lo <= hi - mid) {
+            return NOT_A_TRIANGLE;
+        }
+        int equalPairs = (lo == mid ? 1 : 0) + (mid == hi ? 1 : 0);
+        // Compare lo² + mid² with hi² as unsigned 128-bit values (all below 2^127)
+        long sumLow = lo * lo + mid * mid;
+        long sumHigh = Math.multiplyHigh(lo, lo) + Math.multiplyHigh(mid, mid)
+            + (Long.compareUnsigned(sumLow, lo * lo) < 0 ? 1 : 0);
+        long hiHigh = Math.multiplyHigh(hi, hi);
+        int order = sumHigh != hiHigh ? Long.compare(sumHigh, hiHigh) : Long.compareUnsigned(sumLow, hi * hi);
+        // order > 0 is acute, 0 right, < 0 obtuse
+        return code(SCALENE - equalPairs, RIGHT - Integer.signum(order));
+    }
+
+    public static byte classify(double a, double b, double c) {
+        return classify(a, b, c, DEFAULT_EPSILON);
+    }
+
+    public static byte classify(double a, double b, double c, double epsilon) {
+        double lo = Math.min(a, Math.min(b, c));
+        double hi = Math.max(a, Math.max(b, c));
+        double mid = Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+        if (!(lo > 0) || !(hi < Double.POSITIVE_INFINITY)) {
+            return INVALID;
+        }
+        double x = lo / hi;
+        double y = mid / hi;
+        if (!(x + y - 1 > epsilon)) {
+            return NOT_A_TRIANGLE;
+        }
+        int equalPairs = (y - x <= epsilon ? 1 : 0) + (1 - y <= epsilon ? 1 : 0);
+        double excess = x * x + y * y - 1;
+        int angle = excess > epsilon ? AngleKind.ACUTE.code()
+            : excess < -epsilon ? AngleKind.OBTUSE.code() : RIGHT;
+        return code(SCALENE - equalPairs, angle);
+    }
+
+    /** Classifies {@code a[i], b[i], c[i]} for {@code i} in {@code [from, to)} into {@code codes[i]}. */
+    public static void classify(long[] a, long[] b, long[] c, int from, int to, byte[] codes) {
+        for (int i = from; i < to; i++) {
+            codes[i] = classify(a[i], b[i], c[i]);
+        }
+    }
+
+    /** Classifies {@code a[i], b[i], c[i]} for {@code i} in {@code [from, to)} into {@code codes[i]}. */
+    public static void classify(double[] a, double[] b, double[] c, int from, int to, double epsilon, byte[] codes) {
+        if (VECTOR_API_AVAILABLE) {
+            DoubleTriangleKernel.classify(a, b, c, from, to, epsilon, codes);
+        } else {
+            classifyScalar(a, b, c, from, to, epsilon, codes);
+        }
+    }
+
+    static void classifyScalar(double[] a, double[] b, double[] c, int from, int to, double epsilon, byte[] codes) {
+        for (int i = from; i < to; i++) {
+            codes[i] = classify(a[i], b[i], c[i], epsilon);
+        }
+    }
+
+    private static boolean detectVectorApi() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return DoubleTriangleKernel.lanes() > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
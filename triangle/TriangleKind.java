@@ -0,0 +1,37 @@
+package st.triangle;
+
+/**
+ * Outcome of classifying three sides, with a stable byte {@link #code()} for
+ * compact batch output.
+ */
+public enum TriangleKind {
+    INVALID_RANGE("Invalid input! Each side must be between 1 and 10."),
+    NOT_A_TRIANGLE("Not a Triangle"),
+    EQUILATERAL("Equilateral Triangle"),
+    ISOSCELES("Isosceles Triangle"),
+    SCALENE("Scalene Triangle");
+
+    private static final TriangleKind[] BY_CODE = values();
+
+    private final String message;
+
+    TriangleKind(String message) {
+        this.message = message;
+    }
+
+    public byte code() {
+        return (byte) ordinal();
+    }
+
+    /** The line {@link TriangleType} prints for this outcome. */
+    public String message() {
+        return message;
+    }
+
+    public static TriangleKind fromCode(byte code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Unknown triangle code: " + code);
+        }
+        return BY_CODE[code];
+    }
+}
@@ -0,0 +1,96 @@
+package st.triangle;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Lookup-table classifier for {@link TriangleType}'s domain.
+ *
+ * <p>With sides bounded to 1..10 there are only 1000 triples, so every answer
+ * is computed once from {@code isTriangle} and {@code classifyTriangle} into
+ * a byte table. After that, classifying a triple is one range test and one
+ * array load. The batch methods write {@link TriangleKind#code()} bytes, so
+ * millions of triples go through without creating a single object.
+ */
+public final class TriangleTable {
+
+    private static final int SIDES = TriangleType.MAX_SIDE - TriangleType.MIN_SIDE + 1;
+    private static final byte[] CODES = new byte[SIDES * SIDES * SIDES];
+
+    static {
+        for (int a = TriangleType.MIN_SIDE; a <= TriangleType.MAX_SIDE; a++) {
+            for (int b = TriangleType.MIN_SIDE; b <= TriangleType.MAX_SIDE; b++) {
+                for (int c = TriangleType.MIN_SIDE; c <= TriangleType.MAX_SIDE; c++) {
+                    TriangleKind kind = !TriangleType.isTriangle(a, b, c)
+                        ? TriangleKind.NOT_A_TRIANGLE
+                        : kindOf(TriangleType.classifyTriangle(a, b, c));
+                    CODES[index(a, b, c)] = kind.code();
+                }
+            }
+        }
+    }
+
+    private TriangleTable() {
+    }
+
+    private static TriangleKind kindOf(String classification) {
+        for (TriangleKind kind : TriangleKind.values()) {
+            if (kind.message().equals(classification)) {
+                return kind;
+            }
+        }
+        throw new IllegalStateException("Unknown classification: " + classification);
+    }
+
+    private static int index(int a, int b, int c) {
+        return ((a - TriangleType.MIN_SIDE) * SIDES + b - TriangleType.MIN_SIDE) * SIDES + c - TriangleType.MIN_SIDE;
+    }
+
+    /** {@link TriangleKind#code()} of a triple, including out-of-range sides. */
+    public static byte code(int a, int b, int c) {
+        // Negative exactly when some side is below MIN_SIDE or above MAX_SIDE
+        int outside = (a - TriangleType.MIN_SIDE) | (b - TriangleType.MIN_SIDE) | (c - TriangleType.MIN_SIDE)
+            | (TriangleType.MAX_SIDE - a) | (TriangleType.MAX_SIDE - b) | (TriangleType.MAX_SIDE - c);
+        return outside < 0 ? TriangleKind.INVALID_RANGE.code() : CODES[index(a, b, c)];
+    }
+
+    public static TriangleKind classify(int a, int b, int c) {
+        return TriangleKind.fromCode(code(a, b, c));
+    }
+
+    /**
+     * Classifies {@code count} triples stored as consecutive {@code a, b, c}
+     * ints from {@code sides[from]}, writing one code per triple to
+     * {@code codes[codesFrom..]}. Throws {@link IndexOutOfBoundsException}
+     * before writing anything if either range does not fit its array.
+     */
+    public static void classify(int[] sides, int from, int count, byte[] codes, int codesFrom) {
+        Objects.checkFromIndexSize(from, 3L * count, sides.length);
+        Objects.checkFromIndexSize(codesFrom, count, codes.length);
+        for (int t = 0, s = from; t < count; t++, s += 3) {
+            codes[codesFrom + t] = code(sides[s], sides[s + 1], sides[s + 2]);
+        }
+    }
+
+    /**
+     * Classifies the remaining bytes of {@code sides}, three signed bytes per
+     * triple, and puts one code per triple into {@code codes}. Both buffers'
+     * positions advance.
+     */
+    public static void classify(ByteBuffer sides, ByteBuffer codes) {
+        if (sides.remaining() % 3 != 0) {
+            throw new IllegalArgumentException("Remaining bytes are not whole triples: " + sides.remaining());
+        }
+        int count = sides.remaining() / 3;
+        if (codes.remaining() < count) {
+            throw new IllegalArgumentException("Output has room for " + codes.remaining() + " of " + count + " codes");
+        }
+        int s = sides.position();
+        int out = codes.position();
+        for (int t = 0; t < count; t++, s += 3) {
+            codes.put(out + t, code(sides.get(s), sides.get(s + 1), sides.get(s + 2)));
+        }
+        sides.position(s);
+        codes.position(out + count);
+    }
+}
@@ -1,17 +1,17 @@
 package st.triangle;
 
-import java.util.Scanner;
+import common.NumberInput;
 
 public class TriangleType {
 
-    private static final int MIN_SIDE = 1;
-    private static final int MAX_SIDE = 10;
+    static final int MIN_SIDE = 1;
+    static final int MAX_SIDE = 10;
 
     public static void main(String[] args) {
-        try (Scanner sc = new Scanner(System.in)) {
-            int a = readSide(sc, 1);
-            int b = readSide(sc, 2);
-            int c = readSide(sc, 3);
+        try (NumberInput in = NumberInput.stdin()) {
+            int a = readSide(in, 1);
+            int b = readSide(in, 2);
+            int c = readSide(in, 3);
 
             if (!isValidRange(a, b, c)) {
                 System.out.println("Invalid input! Each side must be between 1 and 10.");
@@ -27,9 +27,9 @@ public class TriangleType {
         }
     }
 
-    private static int readSide(Scanner sc, int sideNumber) {
+    private static int readSide(NumberInput in, int sideNumber) {
         System.out.print("Enter side " + sideNumber + ": ");
-        return sc.nextInt();
+        return in.nextInt();
     }
 
     private static boolean isValidRange(int a, int b, int c) {
@@ -40,12 +40,12 @@ public class TriangleType {
         return side >= MIN_SIDE && side <= MAX_SIDE;
     }
 
-    private static boolean isTriangle(int a, int b, int c) {
+    static boolean isTriangle(int a, int b, int c) {
         // Triangle inequality: sum of any two sides must be greater than the third
         return a + b > c && a + c > b && b + c > a;
     }
 
-    private static String classifyTriangle(int a, int b, int c) {
+    static String classifyTriangle(int a, int b, int c) {
         if (a == b && b == c) {
             return "Equilateral Triangle";
         }